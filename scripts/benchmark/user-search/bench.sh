@@ -0,0 +1,56 @@
+#!/usr/bin/env sh
+# Seeds a scratch database with 1M, 5M and 10M users and times admin search
+# queries (substring with and without the trigram index, and ranked).
+# Needs the docker compose postgres running. Output: target/benchmark/user-search/.
+set -eu
+
+cd "$(dirname "$0")/../../.."
+
+CONTAINER="${CONTAINER:-backend-postgres}"
+DB_USER="${DB_USER:-app}"
+BENCH_DB="${BENCH_DB:-app_user_search_bench}"
+SIZES="${SIZES:-1000000 5000000 10000000}"
+RUNS="${RUNS:-5}"
+TERMS="${TERMS:-okafor 4711|user98765@|priya}"
+OUT_DIR="${OUT_DIR:-target/benchmark/user-search}"
+DIR="scripts/benchmark/user-search"
+mkdir -p "$OUT_DIR"
+
+psql_in() {
+  docker exec -i "$CONTAINER" psql -X -q -U "$DB_USER" -v ON_ERROR_STOP=1 "$@"
+}
+
+psql_in -d postgres -c "DROP DATABASE IF EXISTS $BENCH_DB" -c "CREATE DATABASE $BENCH_DB"
+psql_in -d "$BENCH_DB" <"$DIR/schema.sql"
+
+printf '| users | term | contains (index) ms | contains (seq scan) ms | ranked ms |\n' >"$OUT_DIR/results.md"
+printf '|---:|---|---:|---:|---:|\n' >>"$OUT_DIR/results.md"
+
+for rows in $SIZES; do
+  echo "==> seeding $rows users"
+  psql_in -d "$BENCH_DB" -v rows="$rows" <"$DIR/seed.sql"
+
+  echo "$TERMS" | tr '|' '\n' | while read -r term; do
+    log="$OUT_DIR/run-$rows-$(echo "$term" | tr -c 'a-z0-9' '_').log"
+    : >"$log"
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+      psql_in -d "$BENCH_DB" -v q="'$term'" -v pattern="'%$term%'" <"$DIR/queries.sql" >>"$log"
+      i=$((i + 1))
+    done
+    # Median of the "Time: N ms" lines for each of the three queries.
+    medians="$(awk '
+      /^contains \(trigram/ { q = 1 } /^contains \(sequential/ { q = 2 } /^ranked/ { q = 3 }
+      /^Time:/ && q > 0 { t[q, ++n[q]] = $2; q = 0 }
+      END {
+        for (k = 1; k <= 3; k++) {
+          c = n[k]
+          for (i = 1; i <= c; i++) for (j = i + 1; j <= c; j++) if (t[k, j] < t[k, i]) { x = t[k, i]; t[k, i] = t[k, j]; t[k, j] = x }
+          printf "%s%s", (k > 1 ? " | " : ""), (c ? t[k, int((c + 1) / 2)] : "n/a")
+        }
+      }' "$log")"
+    printf '| %s | `%s` | %s |\n' "$rows" "$term" "$medians" >>"$OUT_DIR/results.md"
+  done
+done
+
+cat "$OUT_DIR/results.md"
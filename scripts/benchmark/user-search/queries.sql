@@ -0,0 +1,25 @@
+-- Usage: psql -v q="'okafor 4711'" -v pattern="'%okafor 4711%'" -f queries.sql
+\timing on
+
+\echo contains (trigram index)
+SELECT id FROM users u
+WHERE lower(u.name) LIKE :pattern OR lower(u.email) LIKE :pattern
+ORDER BY u.created_at DESC
+LIMIT 20;
+
+SET enable_bitmapscan = off;
+\echo contains (sequential scan baseline)
+SELECT id FROM users u
+WHERE lower(u.name) LIKE :pattern OR lower(u.email) LIKE :pattern
+ORDER BY u.created_at DESC
+LIMIT 20;
+RESET enable_bitmapscan;
+
+\echo ranked
+SELECT id FROM users u
+WHERE lower(u.name) LIKE :pattern
+   OR lower(u.email) LIKE :pattern
+   OR lower(u.name) % :q
+   OR lower(u.email) % :q
+ORDER BY greatest(similarity(lower(u.name), :q), similarity(lower(u.email), :q)) DESC, u.created_at DESC
+LIMIT 20;
@@ -0,0 +1,13 @@
+-- Scratch copy of the users table with the V1 and V6 indexes.
+-- Lives in its own database so seeding millions of rows never touches app data.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP TABLE IF EXISTS users;
+CREATE TABLE users (
+    id UUID PRIMARY KEY,
+    name TEXT NOT NULL,
+    email TEXT NOT NULL UNIQUE,
+    email_verified BOOLEAN NOT NULL DEFAULT false,
+    role_id INTEGER,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
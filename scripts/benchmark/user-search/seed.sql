@@ -0,0 +1,23 @@
+-- Usage: psql -v rows=1000000 -f seed.sql
+-- Deterministic names/emails so every run searches the same data.
+TRUNCATE users;
+
+SELECT setseed(0.42);
+
+INSERT INTO users (id, name, email, email_verified, role_id, created_at)
+SELECT
+    md5('user-' || g)::uuid,
+    (ARRAY['Ana','Bikash','Chen','Dario','Elif','Femi','Grace','Hiro','Ines','Jonas','Kavya','Luis','Maya','Noah','Omar','Priya'])[1 + g % 16]
+        || ' '
+        || (ARRAY['Adhikari','Becker','Costa','Dubois','Eriksen','Fischer','Garcia','Haddad','Ito','Jensen','Khan','Lopez','Moreau','Nakamura','Okafor','Patel'])[1 + (g / 16) % 16]
+        || ' ' || g,
+    'user' || g || '@' || (ARRAY['example.com','mail.test','corp.local','startup.io'])[1 + g % 4],
+    g % 3 = 0,
+    1 + g % 3,
+    now() - (g || ' seconds')::interval
+FROM generate_series(1, :rows) AS g;
+
+CREATE INDEX IF NOT EXISTS users_created_at_id_desc_idx ON users (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS users_name_trgm_idx ON users USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS users_email_trgm_idx ON users USING gin (lower(email) gin_trgm_ops);
+VACUUM ANALYZE users;
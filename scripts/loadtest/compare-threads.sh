@@ -0,0 +1,52 @@
+#!/usr/bin/env sh
+# Runs threads.js twice against a freshly started app, once on platform
+# threads and once on virtual threads, and keeps both k6 summaries.
+# Needs Java 21, k6 and the docker compose infra running.
+set -eu
+
+cd "$(dirname "$0")/../.."
+
+if [ -f ./.env ]; then
+  # shellcheck disable=SC1091
+  set -a
+  . ./.env
+  set +a
+fi
+
+PORT="${PORT:-8080}"
+OUT_DIR="${OUT_DIR:-target/loadtest}"
+mkdir -p "$OUT_DIR"
+
+./mvnw -q -Pjava21 -DskipTests package
+JAR="$(ls target/backend-*.jar | grep -v plain | head -n 1)"
+
+run() {
+  mode="$1"
+  virtual="$2"
+  echo "==> $mode (spring.threads.virtual.enabled=$virtual)"
+  SPRING_THREADS_VIRTUAL_ENABLED="$virtual" \
+    java -jar "$JAR" --server.tomcat.max-connections=10000 >"$OUT_DIR/app-$mode.log" 2>&1 &
+  pid=$!
+  trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+  until curl -fs "http://localhost:$PORT/health" >/dev/null 2>&1; do
+    sleep 1
+  done
+
+  k6 run --summary-export "$OUT_DIR/summary-$mode.json" \
+    -e BASE_URL="http://localhost:$PORT" \
+    scripts/loadtest/threads.js
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run platform false
+run virtual true
+
+for mode in platform virtual; do
+  printf '%-9s ' "$mode"
+  jq -r '"rps=\(.metrics.http_reqs.rate | floor) p95=\(.metrics.http_req_duration["p(95)"] | floor)ms failed=\(.metrics.http_req_failed.value)"' \
+    "$OUT_DIR/summary-$mode.json"
+done
@@ -0,0 +1,109 @@
+#!/usr/bin/env sh
+# Boots the app against local stand-ins and drives a login/refresh/me/
+# admin-list/upload mix with the Java load generator in src/loadtest.
+#
+# Stand-ins, all under target/loadtest/run and thrown away afterwards:
+#   postgres  local initdb/pg_ctl binaries, fresh cluster each run
+#   redis     local redis-server, persistence off
+#   smtp      SmtpSink from src/loadtest (accepts and discards mail)
+#   amqp      none; the loadtest Spring profile drops the Rabbit auto-config
+#
+# Needs postgres (with contrib for pgcrypto) and redis-server on PATH.
+# Results go to target/loadtest/results-<label>.json; compare two runs with
+#   ./scripts/loadtest/run-e2e.sh compare <baseline.json> <candidate.json>
+set -eu
+
+cd "$(dirname "$0")/../.."
+
+OUT_DIR="${OUT_DIR:-target/loadtest}"
+RUN_DIR="$OUT_DIR/run"
+APP_PORT="${APP_PORT:-18080}"
+MANAGEMENT_PORT="${MANAGEMENT_PORT:-18081}"
+PG_PORT="${PG_PORT:-55432}"
+REDIS_PORT="${REDIS_PORT:-56379}"
+SMTP_PORT="${SMTP_PORT:-51025}"
+LABEL="${LOADTEST_LABEL:-$(git rev-parse --short HEAD 2>/dev/null || echo local)}"
+
+if [ "${1:-}" = "compare" ]; then
+  ./mvnw -q -Ploadtest test-compile exec:exec \
+    -Dloadtest.main=com.starterpack.backend.loadtest.CompareResults \
+    -Dloadtest.args="$2 $3"
+  exit 0
+fi
+
+for bin in initdb pg_ctl createdb redis-server redis-cli; do
+  command -v "$bin" >/dev/null 2>&1 || { echo "missing $bin on PATH" >&2; exit 1; }
+done
+
+rm -rf "$RUN_DIR"
+mkdir -p "$RUN_DIR"
+RUN_DIR="$(cd "$RUN_DIR" && pwd)"
+
+app_pid=""
+smtp_pid=""
+cleanup() {
+  [ -n "$app_pid" ] && kill "$app_pid" 2>/dev/null || true
+  [ -n "$smtp_pid" ] && kill "$smtp_pid" 2>/dev/null || true
+  redis-cli -p "$REDIS_PORT" shutdown nosave >/dev/null 2>&1 || true
+  pg_ctl -D "$RUN_DIR/pg" -m fast stop >/dev/null 2>&1 || true
+}
+trap cleanup EXIT INT TERM
+
+echo "==> postgres on $PG_PORT"
+initdb -D "$RUN_DIR/pg" -U app --auth=trust >"$RUN_DIR/initdb.log"
+pg_ctl -D "$RUN_DIR/pg" -l "$RUN_DIR/postgres.log" -w \
+  -o "-p $PG_PORT -k $RUN_DIR -c listen_addresses=127.0.0.1" start >/dev/null
+createdb -h 127.0.0.1 -p "$PG_PORT" -U app app
+
+echo "==> redis on $REDIS_PORT"
+redis-server --port "$REDIS_PORT" --save '' --appendonly no \
+  --daemonize yes --logfile "$RUN_DIR/redis.log" --dir "$RUN_DIR"
+
+./mvnw -q -DskipTests package
+./mvnw -q -Ploadtest test-compile
+JAR="$(ls target/backend-*.jar | grep -v plain | head -n 1)"
+
+echo "==> smtp sink on $SMTP_PORT"
+./mvnw -q -Ploadtest exec:exec \
+  -Dloadtest.main=com.starterpack.backend.loadtest.SmtpSink \
+  -Dloadtest.args="$SMTP_PORT" >"$RUN_DIR/smtp.log" 2>&1 &
+smtp_pid=$!
+
+echo "==> app on $APP_PORT"
+SPRING_PROFILES_ACTIVE=loadtest \
+SPRING_DATASOURCE_URL="jdbc:postgresql://127.0.0.1:$PG_PORT/app" \
+SPRING_DATASOURCE_USERNAME=app \
+SPRING_DATASOURCE_PASSWORD=app \
+SPRING_REDIS_HOST=127.0.0.1 \
+SPRING_REDIS_PORT="$REDIS_PORT" \
+SPRING_RABBITMQ_HOST=127.0.0.1 \
+SPRING_RABBITMQ_PORT=5672 \
+SPRING_RABBITMQ_USERNAME=unused \
+SPRING_RABBITMQ_PASSWORD=unused \
+SPRING_MAIL_HOST=127.0.0.1 \
+SPRING_MAIL_PORT="$SMTP_PORT" \
+  java -jar "$JAR" --server.port="$APP_PORT" --management.server.port="$MANAGEMENT_PORT" >"$OUT_DIR/app-$LABEL.log" 2>&1 &
+app_pid=$!
+
+until curl -fs "http://127.0.0.1:$APP_PORT/health" >/dev/null 2>&1; do
+  if ! kill -0 "$app_pid" 2>/dev/null; then
+    echo "app exited during startup, see $OUT_DIR/app-$LABEL.log" >&2
+    exit 1
+  fi
+  sleep 1
+done
+
+echo "==> load test ($LABEL)"
+./mvnw -q -Ploadtest exec:exec \
+  -Dloadtest.args="--base-url=http://127.0.0.1:$APP_PORT --label=$LABEL --output=$OUT_DIR/results-$LABEL.json"
+
+# Pool starvation shows up as acquire timeouts; nested acquisitions are what
+# cause it. Either one fails the run.
+metrics="$(curl -fs "http://127.0.0.1:$MANAGEMENT_PORT/actuator/prometheus")"
+pool_timeouts="$(printf '%s\n' "$metrics" | awk '/^hikaricp_connections_timeout_total/ {sum += $2} END {print sum + 0}')"
+nested="$(printf '%s\n' "$metrics" | awk '/^db_connections_nested_total/ {sum += $2} END {print sum + 0}')"
+echo "==> pool timeouts=$pool_timeouts nested acquisitions=$nested"
+if [ "$pool_timeouts" != "0" ] || [ "$nested" != "0" ]; then
+  echo "connection pool starvation risk, see $OUT_DIR/app-$LABEL.log" >&2
+  exit 1
+fi
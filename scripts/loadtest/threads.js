@@ -0,0 +1,41 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.LOADTEST_EMAIL || 'user@gmail.com';
+const PASSWORD = __ENV.LOADTEST_PASSWORD || 'user123';
+const VUS = Number(__ENV.VUS || 5000);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+  scenarios: {
+    me: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const res = http.post(
+    `${BASE_URL}/api/mobile/auth/login`,
+    JSON.stringify({ email: EMAIL, password: PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } },
+  );
+  check(res, { 'login ok': (r) => r.status === 200 });
+  const sid = res.cookies.sid && res.cookies.sid[0];
+  if (!sid) {
+    throw new Error(`login failed with status ${res.status}`);
+  }
+  return { sid: sid.value };
+}
+
+export default function (data) {
+  const res = http.get(`${BASE_URL}/api/mobile/auth/me`, {
+    headers: { Cookie: `sid=${data.sid}` },
+    tags: { name: 'me' },
+  });
+  check(res, { 'me ok': (r) => r.status === 200 });
+}
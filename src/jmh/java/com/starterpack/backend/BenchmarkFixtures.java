@@ -0,0 +1,71 @@
+package com.starterpack.backend;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.auth.application.model.CachedAuthContext;
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
+import com.starterpack.backend.modules.users.domain.Permission;
+import com.starterpack.backend.modules.users.domain.Role;
+import com.starterpack.backend.modules.users.domain.Session;
+import com.starterpack.backend.modules.users.domain.User;
+import com.starterpack.backend.modules.users.infrastructure.PermissionRepository;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BenchmarkFixtures {
+    public static final String[] PERMISSION_NAMES = {
+            "users:read", "users:manage", "roles:read", "roles:manage", "permissions:read",
+            "upload:read", "upload:write", "upload:delete", "audit:read", "sessions:manage"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Permission> permissions() {
+        List<Permission> permissions = new ArrayList<>();
+        for (int i = 0; i < PERMISSION_NAMES.length; i++) {
+            Permission permission = new Permission();
+            permission.setId(i + 1);
+            permission.setName(PERMISSION_NAMES[i]);
+            permissions.add(permission);
+        }
+        return permissions;
+    }
+
+    public static PermissionBitIndex permissionBitIndex() {
+        PermissionRepository repository = mock(PermissionRepository.class);
+        when(repository.findAll()).thenReturn(permissions());
+        PermissionBitIndex index = new PermissionBitIndex(repository);
+        index.reload();
+        return index;
+    }
+
+    public static Session session(String token) {
+        Role role = new Role();
+        role.setId(1);
+        role.setName("ADMIN");
+        role.setPermissions(new HashSet<>(permissions()));
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("admin@example.com");
+        user.setName("Admin");
+        user.setRole(role);
+        Session session = new Session();
+        session.setId(UUID.randomUUID());
+        session.setUser(user);
+        session.setToken(token);
+        session.setRefreshToken("rid-" + token);
+        session.setExpiresAt(OffsetDateTime.now().plusMinutes(15));
+        session.setRefreshExpiresAt(OffsetDateTime.now().plusDays(7));
+        return session;
+    }
+
+    public static CachedAuthContext context(String token) {
+        return CachedAuthContext.fromSession(session(token));
+    }
+}
@@ -0,0 +1,41 @@
+package com.starterpack.backend.common.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RateLimitSignatureBenchmark {
+    private static final List<String> KEYS = List.of("ip", "route", "method", "userId");
+
+    private RedisRateLimitService rateLimitService;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        rateLimitService = new RedisRateLimitService(null, new RateLimitProperties(), null, null);
+        request = new MockHttpServletRequest("POST", "/api/mobile/auth/login");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+    }
+
+    @Benchmark
+    public String resolveSignature() {
+        return rateLimitService.resolveSignature(KEYS, request);
+    }
+}
@@ -0,0 +1,50 @@
+package com.starterpack.backend.config;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.starterpack.backend.BenchmarkFixtures;
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
+import com.starterpack.backend.modules.users.domain.PermissionBits;
+import com.starterpack.backend.modules.users.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthoritiesBenchmark {
+    private PermissionBitIndex permissionBitIndex;
+    private PermissionBits permissionBits;
+    private User principal;
+
+    @Setup
+    public void setUp() {
+        permissionBitIndex = BenchmarkFixtures.permissionBitIndex();
+        permissionBits = PermissionBits.ofPermissions(BenchmarkFixtures.permissions());
+        principal = BenchmarkFixtures.session("token").getUser();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> buildAuthorities() {
+        return new PermissionAuthenticationToken(principal, "ADMIN", permissionBits, permissionBitIndex).getAuthorities();
+    }
+
+    @Benchmark
+    public boolean hasAuthority() {
+        return new PermissionAuthenticationToken(principal, "ADMIN", permissionBits, permissionBitIndex)
+                .hasAuthority("audit:read");
+    }
+}
@@ -0,0 +1,117 @@
+package com.starterpack.backend.config;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.starterpack.backend.BenchmarkFixtures;
+import com.starterpack.backend.modules.auth.application.model.CachedAuthContext;
+import com.starterpack.backend.modules.auth.application.model.CachedRefreshRef;
+import com.starterpack.backend.modules.auth.application.port.AuthSessionCachePort;
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
+import com.starterpack.backend.modules.users.domain.Session;
+import com.starterpack.backend.modules.users.infrastructure.SessionRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SessionAuthenticationFilterBenchmark {
+    private static final String TOKEN = "a1b2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718";
+
+    private SessionAuthenticationFilter cacheHitFilter;
+    private SessionAuthenticationFilter cacheMissFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AuthProperties authProperties = new AuthProperties();
+        PermissionBitIndex permissionBitIndex = BenchmarkFixtures.permissionBitIndex();
+        Session session = BenchmarkFixtures.session(TOKEN);
+
+        SessionRepository hitRepository = mock(SessionRepository.class);
+        cacheHitFilter = new SessionAuthenticationFilter(
+                hitRepository,
+                authProperties,
+                new FixedSessionCache(Optional.of(CachedAuthContext.fromSession(session))),
+                permissionBitIndex
+        );
+
+        SessionRepository missRepository = mock(SessionRepository.class);
+        when(missRepository.findByTokenAndExpiresAtAfter(any(), any())).thenReturn(Optional.of(session));
+        cacheMissFilter = new SessionAuthenticationFilter(
+                missRepository,
+                authProperties,
+                new FixedSessionCache(Optional.empty()),
+                permissionBitIndex
+        );
+
+        request = new MockHttpServletRequest("GET", "/api/mobile/auth/me");
+        request.setCookies(new Cookie(authProperties.getCookie().getName(), TOKEN));
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> {
+        };
+    }
+
+    @Benchmark
+    public Object cacheHit() throws Exception {
+        SecurityContextHolder.clearContext();
+        cacheHitFilter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object cacheMiss() throws Exception {
+        SecurityContextHolder.clearContext();
+        cacheMissFilter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private record FixedSessionCache(Optional<CachedAuthContext> context) implements AuthSessionCachePort {
+        @Override
+        public Optional<CachedAuthContext> findBySessionToken(String sessionToken) {
+            return context;
+        }
+
+        @Override
+        public Optional<CachedRefreshRef> findByRefreshToken(String refreshToken) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void cacheSession(Session session) {
+        }
+
+        @Override
+        public void evictSession(String sessionToken, String refreshToken, UUID userId) {
+        }
+
+        @Override
+        public void evictAllUserSessions(UUID userId) {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.starterpack.backend.modules.auth.application.model;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.starterpack.backend.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CachedAuthContextSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private CachedAuthContext context;
+    private String json;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        context = BenchmarkFixtures.context("a1b2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718");
+        json = objectMapper.writeValueAsString(context);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return objectMapper.writeValueAsString(context);
+    }
+
+    @Benchmark
+    public CachedAuthContext deserialize() throws Exception {
+        return objectMapper.readValue(json, CachedAuthContext.class);
+    }
+}
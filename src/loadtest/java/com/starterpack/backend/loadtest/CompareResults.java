@@ -0,0 +1,56 @@
+package com.starterpack.backend.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prints per-endpoint deltas between two result files written by
+ * {@link LoadTest}: {@code CompareResults baseline.json candidate.json}.
+ */
+public final class CompareResults {
+    private static final String[] METRICS = {"throughputPerSecond", "p50Millis", "p99Millis", "p999Millis"};
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode baseline = mapper.readTree(new File(args[0]));
+        JsonNode candidate = mapper.readTree(new File(args[1]));
+        Map<String, JsonNode> baselineEndpoints = byEndpoint(baseline);
+
+        System.out.printf("%s -> %s%n", baseline.path("label").asText(), candidate.path("label").asText());
+        System.out.printf("%-11s %-20s %12s %12s %9s%n", "endpoint", "metric", "baseline", "candidate", "change");
+        for (JsonNode endpoint : candidate.path("endpoints")) {
+            String name = endpoint.path("endpoint").asText();
+            JsonNode before = baselineEndpoints.get(name);
+            if (before == null) {
+                System.out.printf("%-11s (not in baseline)%n", name);
+                continue;
+            }
+            for (String metric : METRICS) {
+                double from = before.path(metric).asDouble();
+                double to = endpoint.path(metric).asDouble();
+                String change = from == 0 ? "n/a" : String.format("%+.1f%%", (to - from) * 100 / from);
+                System.out.printf("%-11s %-20s %12.2f %12.2f %9s%n", name, metric, from, to, change);
+            }
+        }
+    }
+
+    private static Map<String, JsonNode> byEndpoint(JsonNode document) {
+        Map<String, JsonNode> endpoints = new LinkedHashMap<>();
+        for (JsonNode endpoint : document.path("endpoints")) {
+            endpoints.put(endpoint.path("endpoint").asText(), endpoint);
+        }
+        return endpoints;
+    }
+}
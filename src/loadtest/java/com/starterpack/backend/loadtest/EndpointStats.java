@@ -0,0 +1,83 @@
+package com.starterpack.backend.loadtest;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latencies are recorded in microseconds, up to one minute, with three
+ * significant digits.
+ */
+public class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+
+    public void record(long elapsedNanos, boolean success) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        requests.increment();
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /** Drops everything recorded so far; used at the end of warmup. */
+    public void reset() {
+        recorder.reset();
+        errors.reset();
+        requests.reset();
+    }
+
+    public Result snapshot(String endpoint, double seconds) {
+        Histogram histogram = recorder.getIntervalHistogram();
+        long count = requests.sum();
+        return new Result(
+                endpoint,
+                count,
+                errors.sum(),
+                seconds <= 0 ? 0 : count / seconds,
+                histogram.getMean() / 1000.0,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                encode(histogram)
+        );
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        byte[] bytes = new byte[length];
+        buffer.flip();
+        buffer.get(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    /**
+     * Latency fields are in milliseconds. {@code histogram} is the
+     * compressed HdrHistogram in base64, so results can be merged or
+     * re-plotted later.
+     */
+    public record Result(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double meanMillis,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            String histogram
+    ) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.starterpack.backend.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Closed-loop load generator: each worker logs in once as the regular
+ * user and once as the admin, then issues operations picked from the
+ * weighted mix back to back until the run ends. Warmup samples are
+ * discarded before measurement starts.
+ */
+public final class LoadTest {
+    private static final int ADMIN_LIST_PAGES = 5;
+
+    private final LoadTestOptions options;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] weighted;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        List<Operation> expanded = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            stats.put(operation, new EndpointStats());
+            for (int i = 0; i < weight; i++) {
+                expanded.add(operation);
+            }
+        });
+        this.weighted = expanded.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, options.concurrency() / 4));
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+
+        try {
+            List<SessionClient[]> sessions = new ArrayList<>();
+            for (int i = 0; i < options.concurrency(); i++) {
+                SessionClient user = new SessionClient(http, options.baseUrl(), options.userEmail(), options.userPassword());
+                SessionClient admin = new SessionClient(http, options.baseUrl(), options.adminEmail(), options.adminPassword());
+                if (!user.login() || !admin.login()) {
+                    throw new IllegalStateException("Initial login failed; check credentials and that the app is up at " + options.baseUrl());
+                }
+                sessions.add(new SessionClient[] {user, admin});
+            }
+
+            long warmupEnd = System.nanoTime() + options.warmup().toNanos();
+            long runEnd = warmupEnd + options.duration().toNanos();
+            AtomicInteger failures = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(options.concurrency());
+            ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+            for (SessionClient[] session : sessions) {
+                workers.execute(() -> {
+                    try {
+                        drive(session[0], session[1], runEnd);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException ex) {
+                        failures.incrementAndGet();
+                        System.err.println("LOADTEST_WORKER_FAILED error=" + ex);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            System.out.printf("Warming up for %s with %d workers%n", options.warmup(), options.concurrency());
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+            stats.values().forEach(EndpointStats::reset);
+            long measureStart = System.nanoTime();
+            System.out.printf("Measuring for %s%n", options.duration());
+
+            done.await();
+            double seconds = (System.nanoTime() - measureStart) / 1_000_000_000.0;
+            workers.shutdownNow();
+
+            List<EndpointStats.Result> results = new ArrayList<>();
+            stats.forEach((operation, endpointStats) -> results.add(endpointStats.snapshot(operation.key(), seconds)));
+            write(results, seconds);
+            print(results);
+            if (failures.get() > 0) {
+                System.err.printf("%d workers stopped early%n", failures.get());
+            }
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    private void drive(SessionClient user, SessionClient admin, long runEnd) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < runEnd) {
+            Operation operation = weighted[random.nextInt(weighted.length)];
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = switch (operation) {
+                    case LOGIN -> user.login();
+                    case REFRESH -> user.refresh();
+                    case ME -> user.get("/api/mobile/auth/me");
+                    case ADMIN_LIST -> admin.get("/api/admin/users?size=20&page=" + (1 + random.nextInt(ADMIN_LIST_PAGES)));
+                    case UPLOAD -> admin.upload(options.uploadBytes());
+                    case REGISTER -> user.register();
+                };
+            } catch (IOException ex) {
+                success = false;
+            }
+            stats.get(operation).record(System.nanoTime() - start, success);
+        }
+    }
+
+    private void write(List<EndpointStats.Result> results, double seconds) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("label", options.label());
+        document.put("finishedAt", OffsetDateTime.now().toString());
+        document.put("baseUrl", options.baseUrl().toString());
+        document.put("concurrency", options.concurrency());
+        document.put("measuredSeconds", seconds);
+        document.put("mix", options.mix());
+        document.put("endpoints", results);
+
+        ObjectMapper mapper = JsonMapper.builder()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        if (options.output().getParent() != null) {
+            Files.createDirectories(options.output().getParent());
+        }
+        mapper.writeValue(options.output().toFile(), document);
+        System.out.println("Results written to " + options.output());
+    }
+
+    private static void print(List<EndpointStats.Result> results) {
+        System.out.printf("%-11s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "rps", "p50ms", "p90ms", "p99ms", "p999ms", "maxms");
+        for (EndpointStats.Result result : results) {
+            System.out.printf("%-11s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    result.endpoint(),
+                    result.requests(),
+                    result.errors(),
+                    result.throughputPerSecond(),
+                    result.p50Millis(),
+                    result.p90Millis(),
+                    result.p99Millis(),
+                    result.p999Millis(),
+                    result.maxMillis());
+        }
+    }
+}
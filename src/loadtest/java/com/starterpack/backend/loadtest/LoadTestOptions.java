@@ -0,0 +1,83 @@
+package com.starterpack.backend.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options come from {@code --key=value} arguments, falling back to
+ * {@code LOADTEST_*} environment variables and then to the defaults below.
+ */
+public record LoadTestOptions(
+        URI baseUrl,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        String userEmail,
+        String userPassword,
+        String adminEmail,
+        String adminPassword,
+        int uploadBytes,
+        String label,
+        Path output
+) {
+    private static final String DEFAULT_MIX = "login=5,refresh=10,me=50,admin-list=25,upload=10";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String label = value(values, "label", "local");
+        return new LoadTestOptions(
+                URI.create(value(values, "base-url", "http://localhost:8080")),
+                Integer.parseInt(value(values, "concurrency", "64")),
+                Duration.parse(value(values, "warmup", "PT30S")),
+                Duration.parse(value(values, "duration", "PT2M")),
+                parseMix(value(values, "mix", DEFAULT_MIX)),
+                value(values, "user-email", "user@gmail.com"),
+                value(values, "user-password", "user123"),
+                value(values, "admin-email", "superadmin@gmail.com"),
+                value(values, "admin-password", "superadmin123"),
+                Integer.parseInt(value(values, "upload-bytes", "16384")),
+                label,
+                Path.of(value(values, "output", "target/loadtest/results-" + label + ".json"))
+        );
+    }
+
+    private static String value(Map<String, String> values, String key, String defaultValue) {
+        String value = values.get(key);
+        if (value != null) {
+            return value;
+        }
+        String env = System.getenv("LOADTEST_" + key.toUpperCase().replace('-', '_'));
+        return env == null || env.isBlank() ? defaultValue : env;
+    }
+
+    private static Map<Operation, Integer> parseMix(String raw) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : raw.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,29 @@
+package com.starterpack.backend.loadtest;
+
+public enum Operation {
+    LOGIN("login"),
+    REFRESH("refresh"),
+    ME("me"),
+    ADMIN_LIST("admin-list"),
+    UPLOAD("upload"),
+    REGISTER("register");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
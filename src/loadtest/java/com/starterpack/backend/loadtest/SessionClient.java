@@ -0,0 +1,117 @@
+package com.starterpack.backend.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One logged-in user per worker. Cookies are tracked by hand so each
+ * worker keeps its own sid/rid pair on a shared {@link HttpClient}.
+ */
+class SessionClient {
+    private static final String SESSION_COOKIE = "sid";
+    private static final String REFRESH_COOKIE = "rid";
+
+    private final HttpClient http;
+    private final URI baseUrl;
+    private final String email;
+    private final String password;
+    private String sessionToken;
+    private String refreshToken;
+
+    SessionClient(HttpClient http, URI baseUrl, String email, String password) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.password = password;
+    }
+
+    boolean login() throws IOException, InterruptedException {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/mobile/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return storeCookies(http.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    /**
+     * Registers a fresh throwaway account. The new session cookies are not
+     * kept, so the worker stays logged in as its original user.
+     */
+    boolean register() throws IOException, InterruptedException {
+        String body = "{\"name\":\"Load Test\",\"email\":\"loadtest-" + UUID.randomUUID()
+                + "@example.com\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/mobile/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return isSuccess(http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    boolean refresh() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/mobile/auth/refresh"))
+                .header("Cookie", REFRESH_COOKIE + "=" + refreshToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return storeCookies(http.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    boolean get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .header("Cookie", SESSION_COOKIE + "=" + sessionToken)
+                .GET()
+                .build();
+        return isSuccess(http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    boolean upload(int size) throws IOException, InterruptedException {
+        String boundary = "----loadtest" + UUID.randomUUID();
+        byte[] content = new byte[size];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(size + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"loadtest.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/uploads"))
+                .header("Cookie", SESSION_COOKIE + "=" + sessionToken)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return isSuccess(http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+
+    private boolean storeCookies(HttpResponse<?> response) {
+        List<String> cookies = response.headers().allValues("Set-Cookie");
+        for (String cookie : cookies) {
+            String pair = cookie.split(";", 2)[0];
+            int separator = pair.indexOf('=');
+            if (separator < 0) {
+                continue;
+            }
+            String name = pair.substring(0, separator).trim();
+            String value = pair.substring(separator + 1).trim();
+            if (SESSION_COOKIE.equals(name) && !value.isEmpty()) {
+                sessionToken = value;
+            } else if (REFRESH_COOKIE.equals(name) && !value.isEmpty()) {
+                refreshToken = value;
+            }
+        }
+        return isSuccess(response.statusCode());
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
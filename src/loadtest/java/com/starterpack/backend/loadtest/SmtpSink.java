@@ -0,0 +1,81 @@
+package com.starterpack.backend.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal SMTP server that accepts every message and throws it away, so
+ * the mail outbox can drain during a load test without Mailpit. Only the
+ * commands JavaMail sends without auth or TLS are handled.
+ */
+public final class SmtpSink {
+    private static final AtomicLong DELIVERED = new AtomicLong();
+
+    private SmtpSink() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 1025;
+        ExecutorService connections = Executors.newCachedThreadPool();
+        try (ServerSocket server = new ServerSocket(port)) {
+            System.out.println("SMTP sink listening on " + port);
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = server.accept();
+                connections.execute(() -> handle(socket));
+            }
+        } finally {
+            connections.shutdownNow();
+        }
+    }
+
+    private static void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 loadtest-smtp-sink ready");
+            boolean inData = false;
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (inData) {
+                    if (".".equals(line)) {
+                        inData = false;
+                        long delivered = DELIVERED.incrementAndGet();
+                        if (delivered % 1000 == 0) {
+                            System.out.println("SMTP_SINK_DELIVERED count=" + delivered);
+                        }
+                        reply(out, "250 OK");
+                    }
+                    continue;
+                }
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 loadtest-smtp-sink");
+                    case "DATA" -> {
+                        inData = true;
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        } catch (IOException ignored) {
+            // Client went away mid-conversation; nothing to clean up.
+        }
+    }
+
+    private static void reply(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
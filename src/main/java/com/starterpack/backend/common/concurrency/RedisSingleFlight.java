@@ -0,0 +1,104 @@
+package com.starterpack.backend.common.concurrency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisSingleFlight {
+    private static final Logger logger = LoggerFactory.getLogger(RedisSingleFlight.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final SingleFlightProperties properties;
+    private final RedisMetrics redisMetrics;
+    private final SingleFlight<String, Object> local = new SingleFlight<>();
+
+    public RedisSingleFlight(StringRedisTemplate redis, SingleFlightProperties properties, RedisMetrics redisMetrics) {
+        this.redis = redis;
+        this.properties = properties;
+        this.redisMetrics = redisMetrics;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String key, Supplier<Optional<V>> recheck, Supplier<V> loader) {
+        return (V) local.execute(key, () -> coalesce(key, recheck, loader));
+    }
+
+    private <V> V coalesce(String key, Supplier<Optional<V>> recheck, Supplier<V> loader) {
+        if (!properties.isDistributed()) {
+            return loader.get();
+        }
+        String lockKey = properties.getPrefix() + ":" + key;
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            Boolean acquired = tryLock(lockKey, owner);
+            if (acquired == null) {
+                return loader.get();
+            }
+            if (acquired) {
+                try {
+                    return loader.get();
+                } finally {
+                    unlock(lockKey, owner);
+                }
+            }
+            if (!sleep(properties.getPollInterval())) {
+                return loader.get();
+            }
+            Optional<V> filled = recheck.get();
+            if (filled.isPresent()) {
+                return filled.get();
+            }
+            if (System.nanoTime() >= deadline) {
+                logger.warn("SINGLE_FLIGHT_WAIT_TIMEOUT key={} waitMs={}", key, properties.getWaitTimeout().toMillis());
+                return loader.get();
+            }
+        }
+    }
+
+    private Boolean tryLock(String lockKey, String owner) {
+        try {
+            return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(lockKey, owner, properties.getLockTtl()));
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("single-flight", "lock");
+            logger.warn("SINGLE_FLIGHT_LOCK_UNAVAILABLE key={} message={}", lockKey, ex.getMessage());
+            return null;
+        }
+    }
+
+    private void unlock(String lockKey, String owner) {
+        try {
+            redis.execute(RELEASE, List.of(lockKey), owner);
+        } catch (RuntimeException ex) {
+            logger.warn("SINGLE_FLIGHT_UNLOCK_FAILED key={} message={}", lockKey, ex.getMessage());
+        }
+    }
+
+    private boolean sleep(Duration interval) {
+        try {
+            Thread.sleep(Math.max(1, interval.toMillis()));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.starterpack.backend.common.concurrency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "single-flight")
+public class SingleFlightProperties {
+    private boolean distributed = true;
+    private String prefix = "sf";
+    private Duration lockTtl = Duration.ofSeconds(5);
+    private Duration waitTimeout = Duration.ofSeconds(2);
+    private Duration pollInterval = Duration.ofMillis(25);
+
+    public boolean isDistributed() {
+        return distributed;
+    }
+
+    public void setDistributed(boolean distributed) {
+        this.distributed = distributed;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public Duration getLockTtl() {
+        return lockTtl;
+    }
+
+    public void setLockTtl(Duration lockTtl) {
+        this.lockTtl = lockTtl;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+}
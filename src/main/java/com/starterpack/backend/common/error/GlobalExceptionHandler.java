@@ -2,6 +2,7 @@ package com.starterpack.backend.common.error;
 
 import java.util.List;
 
+import com.starterpack.backend.common.hashing.PasswordHashingUnavailableException;
 import com.starterpack.backend.common.ratelimit.RateLimitExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -75,6 +76,23 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handlePasswordHashingUnavailable(
+            PasswordHashingUnavailableException ex,
+            HttpServletRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiErrorResponse.of(
+                        HttpStatus.SERVICE_UNAVAILABLE.value(),
+                        HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                        "SERVER_BUSY",
+                        ex.getMessage(),
+                        request.getRequestURI(),
+                        List.of()
+                ));
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ApiErrorResponse> handleResponseStatus(
             ResponseStatusException ex,
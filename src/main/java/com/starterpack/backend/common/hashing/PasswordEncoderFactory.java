@@ -0,0 +1,84 @@
+package com.starterpack.backend.common.hashing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public final class PasswordEncoderFactory {
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderFactory.class);
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private PasswordEncoderFactory() {
+    }
+
+    public static PasswordEncoder create(PasswordHashingProperties properties) {
+        String algorithm = properties.getAlgorithm() == null ? BCRYPT : properties.getAlgorithm().trim().toLowerCase();
+        if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+            throw new IllegalStateException("Unsupported password-hashing.algorithm: " + properties.getAlgorithm());
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(resolveBcryptStrength(properties.getBcrypt()));
+        PasswordHashingProperties.Argon2 argon2Settings = properties.getArgon2();
+        Argon2PasswordEncoder argon2 = new Argon2PasswordEncoder(
+                argon2Settings.getSaltLength(),
+                argon2Settings.getHashLength(),
+                argon2Settings.getParallelism(),
+                argon2Settings.getMemoryKib(),
+                argon2Settings.getIterations()
+        );
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(ARGON2, argon2);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        logger.info("PASSWORD_ENCODER_READY algorithm={}", algorithm);
+        return encoder;
+    }
+
+    static int resolveBcryptStrength(PasswordHashingProperties.Bcrypt settings) {
+        if (settings.getStrength() > 0) {
+            return settings.getStrength();
+        }
+
+        int min = Math.max(4, settings.getMinStrength());
+        int max = Math.min(31, Math.max(min, settings.getMaxStrength()));
+        double targetMillis = settings.getTargetDuration().toNanos() / 1_000_000.0;
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(min);
+        probe.encode(CALIBRATION_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long started = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        double measuredMillis = best / 1_000_000.0;
+
+        int strength = min;
+        double estimatedMillis = measuredMillis;
+        while (strength < max && estimatedMillis * 2 <= targetMillis) {
+            strength++;
+            estimatedMillis *= 2;
+        }
+
+        logger.info("PASSWORD_HASH_CALIBRATED algorithm=bcrypt strength={} baseStrength={} baseMs={} estimatedMs={} targetMs={}",
+                strength,
+                min,
+                String.format("%.1f", measuredMillis),
+                String.format("%.1f", estimatedMillis),
+                String.format("%.0f", targetMillis));
+        return strength;
+    }
+}
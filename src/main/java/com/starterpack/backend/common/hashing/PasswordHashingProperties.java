@@ -0,0 +1,160 @@
+package com.starterpack.backend.common.hashing;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+    private boolean enabled = true;
+    private int threads;
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+    private Duration retryAfter = Duration.ofSeconds(2);
+    private String algorithm = "bcrypt";
+    private final Bcrypt bcrypt = new Bcrypt();
+    private final Argon2 argon2 = new Argon2();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public Bcrypt getBcrypt() {
+        return bcrypt;
+    }
+
+    public Argon2 getArgon2() {
+        return argon2;
+    }
+
+    public static class Bcrypt {
+        private int strength;
+        private int minStrength = 10;
+        private int maxStrength = 14;
+        private Duration targetDuration = Duration.ofMillis(250);
+
+        public int getStrength() {
+            return strength;
+        }
+
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+
+        public int getMinStrength() {
+            return minStrength;
+        }
+
+        public void setMinStrength(int minStrength) {
+            this.minStrength = minStrength;
+        }
+
+        public int getMaxStrength() {
+            return maxStrength;
+        }
+
+        public void setMaxStrength(int maxStrength) {
+            this.maxStrength = maxStrength;
+        }
+
+        public Duration getTargetDuration() {
+            return targetDuration;
+        }
+
+        public void setTargetDuration(Duration targetDuration) {
+            this.targetDuration = targetDuration;
+        }
+    }
+
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        private int memoryKib = 16384;
+        private int iterations = 2;
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getHashLength() {
+            return hashLength;
+        }
+
+        public void setHashLength(int hashLength) {
+            this.hashLength = hashLength;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMemoryKib() {
+            return memoryKib;
+        }
+
+        public void setMemoryKib(int memoryKib) {
+            this.memoryKib = memoryKib;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+}
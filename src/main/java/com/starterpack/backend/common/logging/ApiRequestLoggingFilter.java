@@ -1,26 +1,35 @@
 package com.starterpack.backend.common.logging;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.boot.ansi.AnsiColor;
-import org.springframework.boot.ansi.AnsiOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+// Runs ahead of the security chain so session lookups are timed and see the requestId.
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
 public class ApiRequestLoggingFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger("API_REQUEST");
     public static final String REQUEST_ID_HEADER = "X-Request-Id";
     public static final String REQUEST_ID_ATTR = "requestId";
+    private static final String REQUEST_LOG_FORMAT = "{} {} -> {} ({} ms) requestId={}";
+
+    private final RequestTimingProperties timingProperties;
+
+    public ApiRequestLoggingFilter(RequestTimingProperties timingProperties) {
+        this.timingProperties = timingProperties;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -32,31 +41,53 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
         request.setAttribute(REQUEST_ID_ATTR, requestId);
         response.setHeader(REQUEST_ID_HEADER, requestId);
 
-        Instant startedAt = Instant.now();
+        long startedAt = System.nanoTime();
+        RequestTimings timings = null;
+        if (timingProperties.isEnabled()) {
+            timings = new RequestTimings();
+            request.setAttribute(RequestTimings.REQUEST_TIMINGS_ATTR, timings);
+        }
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long elapsedMs = Duration.between(startedAt, Instant.now()).toMillis();
-            String path = request.getRequestURI();
-            String message = String.format(
-                    "%s %s -> %d (%d ms) requestId=%s",
-                    request.getMethod(),
-                    path,
-                    response.getStatus(),
-                    elapsedMs,
-                    requestId
-            );
-            String coloredMessage = colorizeByStatus(message, response.getStatus());
-
+            long elapsedNanos = System.nanoTime() - startedAt;
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
             int status = response.getStatus();
-            if (status >= 500) {
-                logger.error(coloredMessage);
+            // Parameterized so nothing is formatted on the request thread; the async
+            // appender renders (and colors, by level) the line off the hot path.
+            if (timings != null && elapsedNanos >= timingProperties.getSlowThreshold().toNanos()) {
+                logSlowRequest(request, status, elapsedMs, requestId, timings);
+            } else if (status >= 500) {
+                logger.error(REQUEST_LOG_FORMAT, request.getMethod(), request.getRequestURI(), status, elapsedMs, requestId);
             } else if (status >= 400) {
-                logger.warn(coloredMessage);
-            } else {
-                logger.info(coloredMessage);
+                logger.warn(REQUEST_LOG_FORMAT, request.getMethod(), request.getRequestURI(), status, elapsedMs, requestId);
+            } else if (logger.isInfoEnabled()) {
+                logger.info(REQUEST_LOG_FORMAT, request.getMethod(), request.getRequestURI(), status, elapsedMs, requestId);
+            }
+        }
+    }
+
+    private void logSlowRequest(
+            HttpServletRequest request,
+            int status,
+            long elapsedMs,
+            String requestId,
+            RequestTimings timings
+    ) {
+        LoggingEventBuilder event = (status >= 500 ? logger.atError() : logger.atWarn())
+                .addKeyValue("requestId", requestId)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("totalMs", elapsedMs);
+        for (RequestTimings.Category category : RequestTimings.Category.values()) {
+            if (timings.calls(category) > 0) {
+                event = event.addKeyValue(category.key() + "Ms", timings.millis(category))
+                        .addKeyValue(category.key() + "Calls", timings.calls(category));
             }
         }
+        event.log("SLOW_REQUEST {} {} -> {} ({} ms) requestId={} {}",
+                request.getMethod(), request.getRequestURI(), status, elapsedMs, requestId, timings.summary());
     }
 
     private String resolveRequestId(HttpServletRequest request) {
@@ -66,19 +97,4 @@ public class ApiRequestLoggingFilter extends OncePerRequestFilter {
         }
         return UUID.randomUUID().toString();
     }
-
-    private String colorizeByStatus(String message, int status) {
-        AnsiColor color;
-        if (status >= 500) {
-            color = AnsiColor.RED;
-        } else if (status >= 400) {
-            color = AnsiColor.YELLOW;
-        } else if (status >= 300) {
-            color = AnsiColor.CYAN;
-        } else {
-            color = AnsiColor.GREEN;
-        }
-
-        return AnsiOutput.toString(color, message, AnsiColor.DEFAULT);
-    }
 }
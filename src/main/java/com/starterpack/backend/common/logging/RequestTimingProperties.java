@@ -0,0 +1,36 @@
+package com.starterpack.backend.common.logging;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "request-timing")
+public class RequestTimingProperties {
+    private boolean enabled = true;
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    private boolean serverTimingHeader = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public boolean isServerTimingHeader() {
+        return serverTimingHeader;
+    }
+
+    public void setServerTimingHeader(boolean serverTimingHeader) {
+        this.serverTimingHeader = serverTimingHeader;
+    }
+}
@@ -0,0 +1,116 @@
+package com.starterpack.backend.common.logging;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Time spent per dependency while serving one request. Stored as a request
+ * attribute next to {@code requestId}; code outside a request records into a
+ * no-op instance. Writes come from the request thread, so the counters are
+ * plain fields. Categories can overlap: audit includes its own insert, which
+ * is also counted under db.
+ */
+public final class RequestTimings {
+    public static final String REQUEST_TIMINGS_ATTR = "requestTimings";
+
+    private static final RequestTimings NOOP = new RequestTimings();
+
+    private final long startedNanos = System.nanoTime();
+    private final long[] nanos = new long[Category.VALUES.length];
+    private final int[] calls = new int[Category.VALUES.length];
+
+    public static RequestTimings current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return NOOP;
+        }
+        Object timings = attributes.getAttribute(REQUEST_TIMINGS_ATTR, RequestAttributes.SCOPE_REQUEST);
+        return timings instanceof RequestTimings requestTimings ? requestTimings : NOOP;
+    }
+
+    public static void record(Category category, long startedNanos) {
+        current().add(category, System.nanoTime() - startedNanos);
+    }
+
+    public void add(Category category, long elapsedNanos) {
+        if (this == NOOP) {
+            return;
+        }
+        nanos[category.ordinal()] += elapsedNanos;
+        calls[category.ordinal()]++;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedNanos;
+    }
+
+    public long millis(Category category) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos[category.ordinal()]);
+    }
+
+    public int calls(Category category) {
+        return calls[category.ordinal()];
+    }
+
+    /** Server-Timing value, e.g. {@code cache;dur=1.20;desc="2 calls", db;dur=8.41;desc="5 calls", total;dur=12.30}. */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(160);
+        for (Category category : Category.VALUES) {
+            int index = category.ordinal();
+            if (calls[index] == 0) {
+                continue;
+            }
+            header.append(category.key())
+                    .append(";dur=").append(formatMillis(nanos[index]))
+                    .append(";desc=\"").append(calls[index]).append(calls[index] == 1 ? " call\"" : " calls\"")
+                    .append(", ");
+        }
+        return header.append("total;dur=").append(formatMillis(elapsedNanos())).toString();
+    }
+
+    /** Compact form for log lines, e.g. {@code cache=1ms/2 db=8ms/5}. */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(96);
+        for (Category category : Category.VALUES) {
+            int index = category.ordinal();
+            if (calls[index] == 0) {
+                continue;
+            }
+            if (!summary.isEmpty()) {
+                summary.append(' ');
+            }
+            summary.append(category.key()).append('=')
+                    .append(TimeUnit.NANOSECONDS.toMillis(nanos[index])).append("ms/").append(calls[index]);
+        }
+        return summary.toString();
+    }
+
+    private static String formatMillis(long nanos) {
+        long hundredths = nanos / 10_000;
+        long fraction = hundredths % 100;
+        return (hundredths / 100) + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    public enum Category {
+        CACHE("cache"),
+        DB("db"),
+        HASH("hash"),
+        RATE_LIMIT("ratelimit"),
+        AUDIT("audit"),
+        MAIL("mail");
+
+        private static final Category[] VALUES = values();
+
+        private final String key;
+
+        Category(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+}
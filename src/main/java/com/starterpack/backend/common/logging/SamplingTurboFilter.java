@@ -0,0 +1,53 @@
+package com.starterpack.backend.common.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Keeps roughly {@code rate} of the events at or below {@code level} for one
+ * logger and drops the rest before any message is formatted. Higher levels
+ * always pass. Configured from logback-spring.xml.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+    private String loggerName;
+    private Level level = Level.DEBUG;
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks; sample the actual call only.
+        if (format == null || eventLevel == null || eventLevel.toInt() > level.toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!logger.getName().equals(loggerName)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.DEBUG);
+    }
+
+    public void setRate(double rate) {
+        this.rate = Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null || loggerName.isBlank()) {
+            addError("loggerName is required for SamplingTurboFilter");
+            return;
+        }
+        super.start();
+    }
+}
@@ -0,0 +1,46 @@
+package com.starterpack.backend.common.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds Server-Timing just before the body is written. The filter cannot do
+ * it after the chain because the response is already committed by then.
+ * Only enabled outside prod, since it exposes internal timings.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "request-timing", name = "server-timing-header", havingValue = "true")
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            if (httpRequest.getAttribute(RequestTimings.REQUEST_TIMINGS_ATTR) instanceof RequestTimings timings) {
+                response.getHeaders().set(SERVER_TIMING_HEADER, timings.toServerTiming());
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,75 @@
+package com.starterpack.backend.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.starterpack.backend.common.logging.RequestTimings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Pre-registered meters for one named cache, so the hot path only bumps
+ * counters and never looks meters up by tag. Latencies also count toward the
+ * current request's cache time.
+ */
+public final class CacheMeters {
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Timer getLatency;
+    private final Timer putLatency;
+    private final Timer evictLatency;
+
+    CacheMeters(MeterRegistry meterRegistry, String cache) {
+        this.hits = requests(meterRegistry, cache, "hit");
+        this.misses = requests(meterRegistry, cache, "miss");
+        this.stale = requests(meterRegistry, cache, "stale");
+        this.getLatency = latency(meterRegistry, cache, "get");
+        this.putLatency = latency(meterRegistry, cache, "put");
+        this.evictLatency = latency(meterRegistry, cache, "evict");
+    }
+
+    public void hit() {
+        hits.increment();
+    }
+
+    public void miss() {
+        misses.increment();
+    }
+
+    public void stale() {
+        stale.increment();
+    }
+
+    public void recordGet(long startedNanos) {
+        record(getLatency, startedNanos);
+    }
+
+    public void recordPut(long startedNanos) {
+        record(putLatency, startedNanos);
+    }
+
+    public void recordEvict(long startedNanos) {
+        record(evictLatency, startedNanos);
+    }
+
+    private static void record(Timer timer, long startedNanos) {
+        long elapsed = System.nanoTime() - startedNanos;
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+        RequestTimings.current().add(RequestTimings.Category.CACHE, elapsed);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder("cache.requests")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Timer latency(MeterRegistry meterRegistry, String cache, String operation) {
+        return Timer.builder("cache.latency")
+                .tag("cache", cache)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
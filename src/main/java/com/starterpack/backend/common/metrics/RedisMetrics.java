@@ -0,0 +1,26 @@
+package com.starterpack.backend.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public RedisMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CacheMeters cache(String name) {
+        return new CacheMeters(meterRegistry, name);
+    }
+
+    /**
+     * Counts a Redis call that failed and was answered from the fail-open
+     * path instead. Only called on errors, so the per-call meter lookup is
+     * fine.
+     */
+    public void fallback(String component, String operation) {
+        meterRegistry.counter("redis.fallback", "component", component, "operation", operation).increment();
+    }
+}
@@ -0,0 +1,22 @@
+package com.starterpack.backend.common.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "connection-guard")
+public class ConnectionGuardProperties {
+    private Mode mode = Mode.WARN;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+}
@@ -0,0 +1,35 @@
+package com.starterpack.backend.common.persistence;
+
+import com.starterpack.backend.common.logging.RequestTimings;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds JDBC statement and batch execution time to the current request's db
+ * timing. Hibernate creates one instance per session through
+ * {@code hibernate.session.events.auto}, so the start markers need no
+ * synchronization.
+ */
+public class JdbcTimingSessionListener extends BaseSessionEventListener {
+    private long statementStartedNanos;
+    private long batchStartedNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.record(RequestTimings.Category.DB, statementStartedNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.record(RequestTimings.Category.DB, batchStartedNanos);
+    }
+}
@@ -0,0 +1,141 @@
+package com.starterpack.backend.common.persistence;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Flags a thread asking the pool for a connection while it already holds
+ * one, e.g. a REQUIRES_NEW transaction opened inside another. Each such
+ * request needs two pool slots at once, so enough of them in parallel
+ * starve the pool: every thread holds one connection and waits for a
+ * second that never frees up. In WARN mode the acquisition is counted and
+ * logged with the calling frame; in FAIL mode it is refused.
+ */
+public class NestedConnectionGuardDataSource extends DelegatingDataSource {
+    private static final Logger logger = LoggerFactory.getLogger(NestedConnectionGuardDataSource.class);
+    private static final String APP_PACKAGE = "com.starterpack.backend.";
+    private static final String GUARD_PACKAGE = NestedConnectionGuardDataSource.class.getPackageName();
+
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+    private final ConnectionGuardProperties.Mode mode;
+    private final Counter nestedCounter;
+
+    public NestedConnectionGuardDataSource(
+            DataSource target,
+            ConnectionGuardProperties.Mode mode,
+            MeterRegistry meterRegistry
+    ) {
+        super(target);
+        this.mode = mode;
+        this.nestedCounter = Counter.builder("db.connections.nested")
+                .description("Connections requested by a thread that already held one")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger count = checkHeld();
+        return track(super.getConnection(), count);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger count = checkHeld();
+        return track(super.getConnection(username, password), count);
+    }
+
+    private AtomicInteger checkHeld() throws SQLException {
+        AtomicInteger count = held.get();
+        int current = count.get();
+        if (current > 0) {
+            nestedCounter.increment();
+            String caller = callerFrame();
+            if (mode == ConnectionGuardProperties.Mode.FAIL) {
+                throw new SQLException("Nested connection request while holding " + current + " at " + caller);
+            }
+            logger.warn("DB_NESTED_CONNECTION held={} thread={} caller={}",
+                    current, Thread.currentThread().getName(), caller);
+        }
+        return count;
+    }
+
+    private static Connection track(Connection connection, AtomicInteger count) {
+        count.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+                NestedConnectionGuardDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new ReleaseTrackingHandler(connection, count)
+        );
+    }
+
+    private static String callerFrame() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().startsWith(GUARD_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    // Closing may happen on another thread, so the count is decremented through
+    // the acquiring thread's holder rather than the current thread-local.
+    private static final class ReleaseTrackingHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicInteger count;
+        private boolean released;
+
+        private ReleaseTrackingHandler(Connection target, AtomicInteger count) {
+            this.target = target;
+            this.count = count;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!released) {
+                        released = true;
+                        count.decrementAndGet();
+                    }
+                }
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                }
+                case "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.starterpack.backend.common.persistence;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Owns the replica pool and decides, per read-only connection, whether the
+ * replica may serve it. The replica is used only while its last lag check
+ * came back under {@code max-lag}; a failed check or a failed connect sends
+ * reads to the primary until the next successful check.
+ *
+ * <p>The pool is deliberately not a {@link DataSource} bean, so a replica
+ * outage cannot fail the db health check of an app that is falling back.
+ */
+public class ReadReplica implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplica.class);
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private static final int LAG_QUERY_TIMEOUT_SECONDS = 2;
+    // NULL when the WAL receiver is not streaming: receive and replay LSNs then
+    // stay equal however far behind the primary the replica has fallen.
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final HikariDataSource pool;
+    private final double maxLagSeconds;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean checked;
+
+    public ReadReplica(HikariDataSource pool, ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        this.replicaReads = Counter.builder("db.reads").tag("target", "replica").register(meterRegistry);
+        this.primaryReads = Counter.builder("db.reads").tag("target", "primary").register(meterRegistry);
+        Gauge.builder("db.replica.lag", this, replica -> replica.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.healthy", this, replica -> replica.healthy ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code work} with read-only connections taken from the primary.
+     * Use it for reads whose result gets cached: a lagging replica could
+     * otherwise re-cache a row right after it was invalidated.
+     */
+    public static <T> T primaryOnly(Supplier<T> work) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_ONLY.set(previous);
+        }
+    }
+
+    /** Read-only target: the replica when usable, otherwise {@code primary}. */
+    public DataSource routing(DataSource primary) {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (healthy && !PRIMARY_ONLY.get()) {
+                    try {
+                        Connection connection = pool.getConnection();
+                        replicaReads.increment();
+                        return connection;
+                    } catch (SQLException ex) {
+                        markUnhealthy(ex.getMessage());
+                    }
+                }
+                primaryReads.increment();
+                return primary.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void checkLag() {
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(LAG_QUERY_TIMEOUT_SECONDS);
+            try (ResultSet result = statement.executeQuery(LAG_QUERY)) {
+                result.next();
+                lagSeconds = result.getDouble(1);
+                if (result.wasNull()) {
+                    lagSeconds = Double.NaN;
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            if (!checked) {
+                logger.warn("DB_REPLICA_UNAVAILABLE reason={}", ex.getMessage());
+            }
+            checked = true;
+            markUnhealthy(ex.getMessage());
+            return;
+        }
+        checked = true;
+
+        if (Double.isNaN(lagSeconds)) {
+            markUnhealthy("WAL receiver not streaming");
+        } else if (lagSeconds > maxLagSeconds) {
+            markUnhealthy("lag " + lagSeconds + "s over " + maxLagSeconds + "s");
+        } else if (!healthy) {
+            healthy = true;
+            logger.info("DB_REPLICA_HEALTHY lagSeconds={}", lagSeconds);
+        }
+    }
+
+    private void markUnhealthy(String reason) {
+        if (healthy) {
+            healthy = false;
+            logger.warn("DB_REPLICA_FALLBACK reason={}", reason);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        pool.close();
+    }
+}
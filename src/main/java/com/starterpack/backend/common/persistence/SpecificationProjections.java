@@ -0,0 +1,74 @@
+package com.starterpack.backend.common.persistence;
+
+import java.util.List;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public final class SpecificationProjections {
+    private SpecificationProjections() {
+    }
+
+    public static <E, R> Page<R> page(
+            EntityManager entityManager,
+            Class<E> entityType,
+            Class<R> rowType,
+            Specification<E> specification,
+            Pageable pageable,
+            Function<Root<E>, List<Selection<?>>> columns
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(rowType);
+        Root<E> root = query.from(entityType);
+        query.select(cb.construct(rowType, columns.apply(root).toArray(Selection[]::new)));
+        Predicate predicate = toPredicate(specification, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<R> typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<R> rows = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(entityManager, entityType, specification));
+    }
+
+    private static <E> long count(EntityManager entityManager, Class<E> entityType, Specification<E> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<E> root = query.from(entityType);
+        query.select(cb.count(root));
+        Predicate predicate = toPredicate(specification, root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <E> Predicate toPredicate(
+            Specification<E> specification,
+            Root<E> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb
+    ) {
+        return specification == null ? null : specification.toPredicate(root, query, cb);
+    }
+}
@@ -5,8 +5,14 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import com.starterpack.backend.common.logging.RequestTimings;
+import com.starterpack.backend.common.metrics.RedisMetrics;
 import com.starterpack.backend.modules.users.domain.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -21,10 +27,20 @@ public class RedisRateLimitService implements RateLimitService {
 
     private final StringRedisTemplate redis;
     private final RateLimitProperties properties;
-
-    public RedisRateLimitService(StringRedisTemplate redis, RateLimitProperties properties) {
+    private final MeterRegistry meterRegistry;
+    private final RedisMetrics redisMetrics;
+    private final ConcurrentMap<String, PolicyMeters> policyMeters = new ConcurrentHashMap<>();
+
+    public RedisRateLimitService(
+            StringRedisTemplate redis,
+            RateLimitProperties properties,
+            MeterRegistry meterRegistry,
+            RedisMetrics redisMetrics
+    ) {
         this.redis = redis;
         this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.redisMetrics = redisMetrics;
     }
 
     @Override
@@ -48,10 +64,13 @@ public class RedisRateLimitService implements RateLimitService {
         String base = properties.getPrefix() + ":" + policyName + ":" + keySignature;
         String blockKey = base + ":block";
         String countKey = base + ":count:" + bucket;
+        PolicyMeters meters = policyMeters.computeIfAbsent(policyName, this::registerPolicyMeters);
 
+        long started = System.nanoTime();
         try {
             Long blockedTtl = redis.getExpire(blockKey);
             if (blockedTtl != null && blockedTtl > 0) {
+                meters.blocked().increment();
                 return RateLimitDecision.blocked(blockedTtl);
             }
 
@@ -62,17 +81,38 @@ public class RedisRateLimitService implements RateLimitService {
 
             if (count != null && count > policy.getMaxRequests()) {
                 redis.opsForValue().set(blockKey, "1", blockDuration);
+                meters.blocked().increment();
                 return RateLimitDecision.blocked(Math.max(1, blockDuration.getSeconds()));
             }
 
+            meters.allowed().increment();
             return RateLimitDecision.permit();
         } catch (RuntimeException ex) {
+            meters.failOpen().increment();
+            redisMetrics.fallback("rate-limit", policyName);
             logger.warn("Rate limit check failed for policy={} message={}", policyName, ex.getMessage());
             return RateLimitDecision.permit();
+        } finally {
+            RequestTimings.record(RequestTimings.Category.RATE_LIMIT, started);
         }
     }
 
-    private String resolveSignature(List<String> keyParts, HttpServletRequest request) {
+    private PolicyMeters registerPolicyMeters(String policyName) {
+        return new PolicyMeters(
+                decisionCounter(policyName, "allowed"),
+                decisionCounter(policyName, "blocked"),
+                decisionCounter(policyName, "fail_open")
+        );
+    }
+
+    private Counter decisionCounter(String policyName, String outcome) {
+        return Counter.builder("rate.limit.decisions")
+                .tag("policy", policyName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    String resolveSignature(List<String> keyParts, HttpServletRequest request) {
         List<String> values = new ArrayList<>();
         for (String keyPart : keyParts) {
             values.add(switch (keyPart) {
@@ -104,4 +144,7 @@ public class RedisRateLimitService implements RateLimitService {
         }
         return request.getRemoteAddr();
     }
+
+    private record PolicyMeters(Counter allowed, Counter blocked, Counter failOpen) {
+    }
 }
@@ -0,0 +1,9 @@
+package com.starterpack.backend.common.web;
+
+public record CursorMeta(
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long estimatedTotal
+) {
+}
@@ -0,0 +1,9 @@
+package com.starterpack.backend.common.web;
+
+import java.util.List;
+
+public record CursorPagedResponse<T>(
+        List<T> items,
+        CursorMeta page
+) {
+}
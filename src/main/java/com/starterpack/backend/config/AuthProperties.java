@@ -110,6 +110,11 @@ public class AuthProperties {
         private Duration ttl = Duration.ofMinutes(15);
         private boolean exposeTokenInResponse = true;
         private Duration resendCooldown = Duration.ofMinutes(1);
+        private Duration bulkTtl = Duration.ofDays(3);
+        private int bulkChunkSize = 500;
+        private int maxAttempts = 5;
+        private Duration attemptsSyncInterval = Duration.ofSeconds(30);
+        private int attemptsSyncBatchSize = 500;
 
         public Duration getTtl() {
             return ttl;
@@ -134,6 +139,46 @@ public class AuthProperties {
         public void setResendCooldown(Duration resendCooldown) {
             this.resendCooldown = resendCooldown;
         }
+
+        public Duration getBulkTtl() {
+            return bulkTtl;
+        }
+
+        public void setBulkTtl(Duration bulkTtl) {
+            this.bulkTtl = bulkTtl;
+        }
+
+        public int getBulkChunkSize() {
+            return bulkChunkSize;
+        }
+
+        public void setBulkChunkSize(int bulkChunkSize) {
+            this.bulkChunkSize = bulkChunkSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getAttemptsSyncInterval() {
+            return attemptsSyncInterval;
+        }
+
+        public void setAttemptsSyncInterval(Duration attemptsSyncInterval) {
+            this.attemptsSyncInterval = attemptsSyncInterval;
+        }
+
+        public int getAttemptsSyncBatchSize() {
+            return attemptsSyncBatchSize;
+        }
+
+        public void setAttemptsSyncBatchSize(int attemptsSyncBatchSize) {
+            this.attemptsSyncBatchSize = attemptsSyncBatchSize;
+        }
     }
 
     public static class Refresh {
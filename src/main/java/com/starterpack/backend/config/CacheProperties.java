@@ -14,6 +14,9 @@ public class CacheProperties {
 
     public static class Users {
         private Duration listTtl = Duration.ofMinutes(5);
+        private Duration profileTtl = Duration.ofMinutes(10);
+        private double listRefreshBeta = 1.0;
+        private double listRefreshWindow = 0.1;
 
         public Duration getListTtl() {
             return listTtl;
@@ -22,5 +25,29 @@ public class CacheProperties {
         public void setListTtl(Duration listTtl) {
             this.listTtl = listTtl;
         }
+
+        public Duration getProfileTtl() {
+            return profileTtl;
+        }
+
+        public void setProfileTtl(Duration profileTtl) {
+            this.profileTtl = profileTtl;
+        }
+
+        public double getListRefreshBeta() {
+            return listRefreshBeta;
+        }
+
+        public void setListRefreshBeta(double listRefreshBeta) {
+            this.listRefreshBeta = listRefreshBeta;
+        }
+
+        public double getListRefreshWindow() {
+            return listRefreshWindow;
+        }
+
+        public void setListRefreshWindow(double listRefreshWindow) {
+            this.listRefreshWindow = listRefreshWindow;
+        }
     }
 }
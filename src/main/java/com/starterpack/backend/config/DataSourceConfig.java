@@ -0,0 +1,86 @@
+package com.starterpack.backend.config;
+
+import javax.sql.DataSource;
+
+import com.starterpack.backend.common.persistence.ConnectionGuardProperties;
+import com.starterpack.backend.common.persistence.NestedConnectionGuardDataSource;
+import com.starterpack.backend.common.persistence.ReadReplica;
+import com.starterpack.backend.common.persistence.ReplicaDataSourceProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Builds the Hikari pool the way Boot would (bound to spring.datasource.hikari)
+ * and hands JPA/JDBC a guarded view of it. Flyway gets the raw pool since its
+ * lock and migration connections legitimately overlap at startup.
+ *
+ * <p>With a replica configured, connections are fetched lazily: by the time
+ * the first statement runs, the transaction has marked the connection
+ * read-only or not, and read-only ones are served by {@link ReadReplica}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource hikariDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties(prefix = "datasource.replica.hikari")
+    public HikariConfig replicaHikariConfig(ReplicaDataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.getUrl());
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        config.setReadOnly(true);
+        // Start even if the replica is down; reads fall back to the primary.
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    public ReadReplica readReplica(
+            HikariConfig replicaHikariConfig,
+            ReplicaDataSourceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        replicaHikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new ReadReplica(new HikariDataSource(replicaHikariConfig), properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource hikariDataSource,
+            ObjectProvider<ReadReplica> readReplica,
+            ConnectionGuardProperties guardProperties,
+            MeterRegistry meterRegistry
+    ) {
+        DataSource dataSource = hikariDataSource;
+        ReadReplica replica = readReplica.getIfAvailable();
+        if (replica != null) {
+            LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(hikariDataSource);
+            lazy.setReadOnlyDataSource(replica.routing(hikariDataSource));
+            dataSource = lazy;
+        }
+        if (guardProperties.getMode() == ConnectionGuardProperties.Mode.OFF) {
+            return dataSource;
+        }
+        return new NestedConnectionGuardDataSource(dataSource, guardProperties.getMode(), meterRegistry);
+    }
+}
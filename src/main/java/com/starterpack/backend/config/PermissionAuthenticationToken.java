@@ -0,0 +1,84 @@
+package com.starterpack.backend.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
+import com.starterpack.backend.modules.users.domain.PermissionBits;
+import com.starterpack.backend.modules.users.domain.User;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+public class PermissionAuthenticationToken extends AbstractAuthenticationToken {
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final User principal;
+    private final String roleName;
+    private final PermissionBits permissionBits;
+    private final transient PermissionBitIndex permissionBitIndex;
+    private transient volatile List<GrantedAuthority> authorities;
+
+    public PermissionAuthenticationToken(
+            User principal,
+            String roleName,
+            PermissionBits permissionBits,
+            PermissionBitIndex permissionBitIndex
+    ) {
+        super(AuthorityUtils.NO_AUTHORITIES);
+        this.principal = principal;
+        this.roleName = roleName;
+        this.permissionBits = permissionBits == null ? PermissionBits.EMPTY : permissionBits;
+        this.permissionBitIndex = permissionBitIndex;
+        setAuthenticated(true);
+    }
+
+    public boolean hasAuthority(String authority) {
+        if (authority == null) {
+            return false;
+        }
+        if (authority.startsWith(ROLE_PREFIX)) {
+            return roleName != null
+                    && authority.length() == ROLE_PREFIX.length() + roleName.length()
+                    && authority.endsWith(roleName);
+        }
+        return permissionBits.contains(permissionBitIndex.bitOf(authority));
+    }
+
+    public String getRoleName() {
+        return roleName;
+    }
+
+    public PermissionBits getPermissionBits() {
+        return permissionBits;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        List<GrantedAuthority> resolved = authorities;
+        if (resolved == null) {
+            resolved = new ArrayList<>();
+            if (roleName != null && !roleName.isBlank()) {
+                resolved.add(new SimpleGrantedAuthority(ROLE_PREFIX + roleName));
+            }
+            for (String permission : permissionBitIndex.names(permissionBits)) {
+                resolved.add(new SimpleGrantedAuthority(permission));
+            }
+            resolved = List.copyOf(resolved);
+            authorities = resolved;
+        }
+        return resolved;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+}
@@ -0,0 +1,40 @@
+package com.starterpack.backend.config;
+
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+public class PermissionBitsMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+    public PermissionBitsMethodSecurityExpressionHandler() {
+        setExpressionParser(new SpelExpressionParser(
+                new SpelParserConfiguration(SpelCompilerMode.MIXED, getClass().getClassLoader())
+        ));
+    }
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        EvaluationContext context = super.createEvaluationContext(authentication, invocation);
+        if (context instanceof StandardEvaluationContext standard
+                && standard.getRootObject().getValue() instanceof MethodSecurityExpressionOperations root
+                && !(root instanceof PermissionBitsExpressionRoot)) {
+            standard.setRootObject(new PermissionBitsExpressionRoot(root));
+        }
+        return context;
+    }
+
+    @Override
+    protected MethodSecurityExpressionOperations createSecurityExpressionRoot(
+            Authentication authentication,
+            MethodInvocation invocation
+    ) {
+        return new PermissionBitsExpressionRoot(super.createSecurityExpressionRoot(authentication, invocation));
+    }
+}
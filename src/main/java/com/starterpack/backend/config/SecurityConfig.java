@@ -1,13 +1,22 @@
 package com.starterpack.backend.config;
 
+import com.starterpack.backend.common.hashing.BoundedPasswordEncoder;
+import com.starterpack.backend.common.hashing.PasswordEncoderFactory;
+import com.starterpack.backend.common.hashing.PasswordHashingProperties;
 import com.starterpack.backend.modules.auth.application.port.AuthSessionCachePort;
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
 import com.starterpack.backend.modules.users.infrastructure.SessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -15,6 +24,30 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
+    /**
+     * Actuator endpoints are open only on the management server
+     * ({@code management.server.port}), which binds to an internal address.
+     * If the management port is the app port, they are denied outright so the
+     * scrape endpoint is never reachable through the public ingress.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http, Environment environment) throws Exception {
+        boolean separatePort = ManagementPortType.get(environment) == ManagementPortType.DIFFERENT;
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> {
+                    if (separatePort) {
+                        auth.anyRequest().permitAll();
+                    } else {
+                        auth.anyRequest().denyAll();
+                    }
+                });
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
@@ -54,13 +87,26 @@ public class SecurityConfig {
     public SessionAuthenticationFilter sessionAuthenticationFilter(
             SessionRepository sessionRepository,
             AuthProperties authProperties,
-            AuthSessionCachePort authSessionCache
+            AuthSessionCachePort authSessionCache,
+            PermissionBitIndex permissionBitIndex
     ) {
-        return new SessionAuthenticationFilter(sessionRepository, authProperties, authSessionCache);
+        return new SessionAuthenticationFilter(sessionRepository, authProperties, authSessionCache, permissionBitIndex);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new PermissionBitsMethodSecurityExpressionHandler();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingProperties passwordHashingProperties,
+            MeterRegistry meterRegistry
+    ) {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(passwordHashingProperties);
+        if (!passwordHashingProperties.isEnabled()) {
+            return encoder;
+        }
+        return new BoundedPasswordEncoder(encoder, passwordHashingProperties, meterRegistry);
     }
 }
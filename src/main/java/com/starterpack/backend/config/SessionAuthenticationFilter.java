@@ -2,15 +2,14 @@ package com.starterpack.backend.config;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
+import com.starterpack.backend.common.concurrency.SingleFlight;
 import com.starterpack.backend.modules.auth.application.model.CachedAuthContext;
 import com.starterpack.backend.modules.auth.application.port.AuthSessionCachePort;
-import com.starterpack.backend.modules.users.domain.Permission;
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
+import com.starterpack.backend.modules.users.domain.PermissionBits;
 import com.starterpack.backend.modules.users.domain.Role;
-import com.starterpack.backend.modules.users.domain.Session;
 import com.starterpack.backend.modules.users.domain.User;
 import com.starterpack.backend.modules.users.infrastructure.SessionRepository;
 import jakarta.servlet.FilterChain;
@@ -18,9 +17,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -28,15 +24,19 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
     private final SessionRepository sessionRepository;
     private final AuthProperties authProperties;
     private final AuthSessionCachePort authSessionCache;
+    private final PermissionBitIndex permissionBitIndex;
+    private final SingleFlight<String, Optional<CachedAuthContext>> sessionLoads = new SingleFlight<>();
 
     public SessionAuthenticationFilter(
             SessionRepository sessionRepository,
             AuthProperties authProperties,
-            AuthSessionCachePort authSessionCache
+            AuthSessionCachePort authSessionCache,
+            PermissionBitIndex permissionBitIndex
     ) {
         this.sessionRepository = sessionRepository;
         this.authProperties = authProperties;
         this.authSessionCache = authSessionCache;
+        this.permissionBitIndex = permissionBitIndex;
     }
 
     @Override
@@ -48,29 +48,23 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             String token = extractSessionToken(request);
             if (token != null) {
-                authSessionCache.findBySessionToken(token)
-                        .ifPresentOrElse(
-                                cached -> authenticate(cached, request),
-                                () -> sessionRepository.findByTokenAndExpiresAtAfter(token, OffsetDateTime.now())
-                                        .ifPresent(session -> {
-                                            authSessionCache.cacheSession(session);
-                                            authenticate(session, request);
-                                        })
-                        );
+                Optional<CachedAuthContext> context = authSessionCache.findBySessionToken(token);
+                if (context.isEmpty()) {
+                    context = sessionLoads.execute(token, () -> loadSession(token));
+                }
+                context.ifPresent(cached -> authenticate(cached, request));
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticate(Session session, HttpServletRequest request) {
-        User user = session.getUser();
-        List<GrantedAuthority> authorities = authorities(user.getRole());
-
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(user, null, authorities);
-        authentication.setDetails(request);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    private Optional<CachedAuthContext> loadSession(String token) {
+        return sessionRepository.findByTokenAndExpiresAtAfter(token, OffsetDateTime.now())
+                .map(session -> {
+                    authSessionCache.cacheSession(session);
+                    return CachedAuthContext.fromSession(session);
+                });
     }
 
     private void authenticate(CachedAuthContext context, HttpServletRequest request) {
@@ -81,33 +75,14 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
         role.setName(context.roleName());
         principal.setRole(role);
 
-        List<GrantedAuthority> authorities = authorities(context.roleName(), context.permissions());
-        UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(principal, null, authorities);
-        authentication.setDetails(request);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        setAuthentication(principal, context.roleName(), PermissionBits.fromWords(context.permissionBits()), request);
     }
 
-    private List<GrantedAuthority> authorities(Role role) {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        if (role != null) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + role.getName()));
-            for (Permission permission : role.getPermissions()) {
-                authorities.add(new SimpleGrantedAuthority(permission.getName()));
-            }
-        }
-        return authorities;
-    }
-
-    private List<GrantedAuthority> authorities(String roleName, Set<String> permissions) {
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        if (roleName != null && !roleName.isBlank()) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + roleName));
-        }
-        if (permissions != null) {
-            permissions.forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
-        }
-        return authorities;
+    private void setAuthentication(User principal, String roleName, PermissionBits permissionBits, HttpServletRequest request) {
+        PermissionAuthenticationToken authentication =
+                new PermissionAuthenticationToken(principal, roleName, permissionBits, permissionBitIndex);
+        authentication.setDetails(request);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     private String extractSessionToken(HttpServletRequest request) {
@@ -1,5 +1,6 @@
 package com.starterpack.backend.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,6 +11,8 @@ public class UploadProperties {
     private long maxFileSizeBytes = 50L * 1024L * 1024L;
     private List<String> allowedContentTypes = new ArrayList<>();
     private final Local local = new Local();
+    private final Chunked chunked = new Chunked();
+    private final Serving serving = new Serving();
 
     public long getMaxFileSizeBytes() {
         return maxFileSizeBytes;
@@ -31,6 +34,14 @@ public class UploadProperties {
         return local;
     }
 
+    public Chunked getChunked() {
+        return chunked;
+    }
+
+    public Serving getServing() {
+        return serving;
+    }
+
     public static class Local {
         private String baseDir = "uploads";
         private String publicBaseUrl = "/files";
@@ -51,4 +62,73 @@ public class UploadProperties {
             this.publicBaseUrl = publicBaseUrl;
         }
     }
+
+    public static class Chunked {
+        private long maxFileSizeBytes = 2L * 1024L * 1024L * 1024L;
+        private long maxChunkBytes = 8L * 1024L * 1024L;
+        private Duration sessionTtl = Duration.ofHours(24);
+        private String stagingDir = "uploads-staging";
+        private int cleanupBatchSize = 100;
+
+        public long getMaxFileSizeBytes() {
+            return maxFileSizeBytes;
+        }
+
+        public void setMaxFileSizeBytes(long maxFileSizeBytes) {
+            this.maxFileSizeBytes = maxFileSizeBytes;
+        }
+
+        public long getMaxChunkBytes() {
+            return maxChunkBytes;
+        }
+
+        public void setMaxChunkBytes(long maxChunkBytes) {
+            this.maxChunkBytes = maxChunkBytes;
+        }
+
+        public Duration getSessionTtl() {
+            return sessionTtl;
+        }
+
+        public void setSessionTtl(Duration sessionTtl) {
+            this.sessionTtl = sessionTtl;
+        }
+
+        public String getStagingDir() {
+            return stagingDir;
+        }
+
+        public void setStagingDir(String stagingDir) {
+            this.stagingDir = stagingDir;
+        }
+
+        public int getCleanupBatchSize() {
+            return cleanupBatchSize;
+        }
+
+        public void setCleanupBatchSize(int cleanupBatchSize) {
+            this.cleanupBatchSize = cleanupBatchSize;
+        }
+    }
+
+    public static class Serving {
+        private String cacheControl = "private, max-age=604800, immutable";
+        private long sendfileMinBytes = 48L * 1024L;
+
+        public String getCacheControl() {
+            return cacheControl;
+        }
+
+        public void setCacheControl(String cacheControl) {
+            this.cacheControl = cacheControl;
+        }
+
+        public long getSendfileMinBytes() {
+            return sendfileMinBytes;
+        }
+
+        public void setSendfileMinBytes(long sendfileMinBytes) {
+            this.sendfileMinBytes = sendfileMinBytes;
+        }
+    }
 }
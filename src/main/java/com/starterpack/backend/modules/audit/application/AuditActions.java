@@ -18,6 +18,7 @@ public final class AuditActions {
     public static final String AUTH_VERIFY_REQUEST = "auth.verify.request";
     public static final String AUTH_VERIFY_RESEND = "auth.verify.resend";
     public static final String AUTH_VERIFY_CONFIRM = "auth.verify.confirm";
+    public static final String AUTH_VERIFY_BULK_ISSUE = "auth.verify.bulk_issue";
     public static final String AUTH_PASSWORD_FORGOT_REQUEST = "auth.password.forgot.request";
     public static final String AUTH_PASSWORD_RESET = "auth.password.reset";
     public static final String AUTH_PASSWORD_CHANGE = "auth.password.change";
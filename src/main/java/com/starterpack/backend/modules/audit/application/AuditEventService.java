@@ -4,22 +4,24 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
-import jakarta.persistence.EntityManager;
 import jakarta.servlet.http.HttpServletRequest;
 import com.starterpack.backend.modules.audit.domain.AuditLog;
 import com.starterpack.backend.modules.audit.domain.AuditResult;
-import com.starterpack.backend.modules.audit.infrastructure.AuditLogRepository;
 import com.starterpack.backend.modules.users.domain.User;
 import com.starterpack.backend.modules.users.infrastructure.UserRepository;
 import com.starterpack.backend.common.logging.ApiRequestLoggingFilter;
+import com.starterpack.backend.common.logging.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -27,22 +29,38 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class AuditEventService {
     private static final Logger logger = LoggerFactory.getLogger(AuditEventService.class);
 
-    private final AuditLogRepository auditLogRepository;
-    private final EntityManager entityManager;
     private final UserRepository userRepository;
+    private final AuditWriter auditWriter;
+    private final MeterRegistry meterRegistry;
+    private final Timer writeSuccessTimer;
+    private final Timer writeFailureTimer;
 
     public AuditEventService(
-            AuditLogRepository auditLogRepository,
-            EntityManager entityManager,
-            UserRepository userRepository
+            UserRepository userRepository,
+            AuditWriter auditWriter,
+            MeterRegistry meterRegistry
     ) {
-        this.auditLogRepository = auditLogRepository;
-        this.entityManager = entityManager;
         this.userRepository = userRepository;
+        this.auditWriter = auditWriter;
+        this.meterRegistry = meterRegistry;
+        this.writeSuccessTimer = Timer.builder("audit.write.duration")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.writeFailureTimer = Timer.builder("audit.write.duration")
+                .tag("result", "failure")
+                .register(meterRegistry);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Inside a transaction the row is handed to {@link AuditWriter} once the
+     * caller's transaction has completed: successful events only if it
+     * committed, other events (which usually precede a rollback) either way.
+     * An audit failure therefore never rolls back the operation it describes,
+     * and the caller never holds a second pool connection for it, as a nested
+     * REQUIRES_NEW would.
+     */
     public void record(AuditEvent event) {
+        long started = System.nanoTime();
         try {
             HttpServletRequest request = currentRequest().orElse(null);
 
@@ -53,9 +71,6 @@ public class AuditEventService {
             }
 
             AuditLog row = new AuditLog();
-            if (actorUserId != null) {
-                row.setActorUser(entityManager.getReference(User.class, actorUserId));
-            }
             row.setActorEmail(actorEmail);
             row.setAction(event.action());
             row.setResourceType(event.resourceType());
@@ -66,9 +81,27 @@ public class AuditEventService {
             row.setUserAgent(firstNonBlank(event.userAgent(), request == null ? null : request.getHeader("User-Agent")));
             row.setRequestId(resolveRequestId(event, request));
             row.setMetadata(event.metadata() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(event.metadata()));
-            auditLogRepository.save(row);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                auditWriter.write(row, actorUserId);
+            } else {
+                UUID deferredActorUserId = actorUserId;
+                boolean onlyOnCommit = event.result() == AuditResult.SUCCESS;
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (!onlyOnCommit || status == STATUS_COMMITTED) {
+                            auditWriter.submit(row, deferredActorUserId);
+                        }
+                    }
+                });
+            }
+            writeSuccessTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         } catch (RuntimeException ex) {
+            writeFailureTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            meterRegistry.counter("audit.write.failures", "action", String.valueOf(event.action())).increment();
             logger.warn("AUDIT_WRITE_FAILED action={} message={}", event.action(), ex.getMessage());
+        } finally {
+            RequestTimings.record(RequestTimings.Category.AUDIT, started);
         }
     }
 
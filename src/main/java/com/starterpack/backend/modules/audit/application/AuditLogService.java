@@ -38,11 +38,11 @@ public class AuditLogService {
             OffsetDateTime to
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "occurredAt"));
-        Page<AuditLog> rows = auditLogRepository.findAll(
+        Page<AuditLogResponse> rows = auditLogRepository.findResponses(
                 buildFilter(actorUserId, action, resourceType, resourceId, result, from, to),
                 pageable
         );
-        return new PagedResponse<>(rows.getContent().stream().map(AuditLogResponse::from).toList(), PageMeta.from(rows));
+        return new PagedResponse<>(rows.getContent(), PageMeta.from(rows));
     }
 
     public PagedResponse<AuditLogResponse> listForActor(
@@ -55,11 +55,11 @@ public class AuditLogService {
             OffsetDateTime to
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "occurredAt"));
-        Page<AuditLog> rows = auditLogRepository.findAll(
+        Page<AuditLogResponse> rows = auditLogRepository.findResponses(
                 buildFilter(actorUserId, action, null, null, result, from, to),
                 pageable
         );
-        return new PagedResponse<>(rows.getContent().stream().map(AuditLogResponse::from).toList(), PageMeta.from(rows));
+        return new PagedResponse<>(rows.getContent(), PageMeta.from(rows));
     }
 
     private Specification<AuditLog> buildFilter(
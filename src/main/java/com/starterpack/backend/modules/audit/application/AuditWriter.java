@@ -0,0 +1,175 @@
+package com.starterpack.backend.modules.audit.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import com.starterpack.backend.modules.audit.domain.AuditLog;
+import com.starterpack.backend.modules.audit.infrastructure.AuditLogRepository;
+import com.starterpack.backend.modules.users.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes audit rows in their own transaction. {@link #submit} queues the row
+ * for a single background writer, which drains the queue in batches so a burst
+ * (e.g. a login flood) costs one transaction and a few JDBC batches per
+ * {@value #MAX_BATCH_SIZE} rows rather than one transaction per row.
+ *
+ * <p>{@link #submit} runs in the caller's afterCompletion, with the caller's
+ * connection still bound, so it never blocks and never writes. If the queue
+ * is full the row is dropped, counted and logged with its contents, the same
+ * as a row whose insert failed.
+ */
+@Component
+public class AuditWriter implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+    static final int MAX_QUEUED_WRITES = 4096;
+    static final int MAX_BATCH_SIZE = 200;
+    private static final long POLL_MILLIS = 500;
+    private static final long SHUTDOWN_DRAIN_SECONDS = 5;
+
+    private final AuditLogRepository auditLogRepository;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<PendingWrite> queue = new ArrayBlockingQueue<>(MAX_QUEUED_WRITES);
+    private final ThreadPoolExecutor executor;
+    private volatile boolean running = true;
+
+    public AuditWriter(
+            AuditLogRepository auditLogRepository,
+            EntityManager entityManager,
+            MeterRegistry meterRegistry,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.auditLogRepository = auditLogRepository;
+        this.entityManager = entityManager;
+        this.meterRegistry = meterRegistry;
+        // Callers may still be inside a completing transaction whose resources are bound.
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "audit-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        meterRegistry.gauge("audit.write.queued", queue, BlockingQueue::size);
+        executor.execute(this::drain);
+    }
+
+    void write(AuditLog row, UUID actorUserId) {
+        transaction.executeWithoutResult(status -> persist(new PendingWrite(row, actorUserId)));
+    }
+
+    void submit(AuditLog row, UUID actorUserId) {
+        if (running && queue.offer(new PendingWrite(row, actorUserId))) {
+            return;
+        }
+        meterRegistry.counter("audit.write.overflow").increment();
+        logRow("AUDIT_WRITE_DROPPED", row, running ? "writer queue full" : "writer stopped");
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        try {
+            transaction.executeWithoutResult(status -> batch.forEach(this::persist));
+        } catch (RuntimeException ex) {
+            // One bad row must not take the rest of the batch with it.
+            for (PendingWrite pending : batch) {
+                pending.row().setId(null);
+                writeOne(pending);
+            }
+        }
+    }
+
+    private void writeOne(PendingWrite pending) {
+        try {
+            transaction.executeWithoutResult(status -> persist(pending));
+        } catch (RuntimeException ex) {
+            recordFailure(pending.row(), ex.getMessage());
+        }
+    }
+
+    private void persist(PendingWrite pending) {
+        if (pending.actorUserId() != null) {
+            pending.row().setActorUser(entityManager.getReference(User.class, pending.actorUserId()));
+        }
+        auditLogRepository.save(pending.row());
+    }
+
+    private void recordFailure(AuditLog row, String message) {
+        meterRegistry.counter("audit.write.failures", "action", String.valueOf(row.getAction())).increment();
+        logRow("AUDIT_WRITE_FAILED", row, message);
+    }
+
+    private static void logRow(String event, AuditLog row, String message) {
+        logger.error(
+                event + " action={} result={} reasonCode={} resourceType={} resourceId={} actorEmail={} ip={} requestId={} message={}",
+                row.getAction(),
+                row.getResult(),
+                row.getReasonCode(),
+                row.getResourceType(),
+                row.getResourceId(),
+                row.getActorEmail(),
+                row.getIpAddress(),
+                row.getRequestId(),
+                message
+        );
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_DRAIN_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("AUDIT_WRITER_SHUTDOWN_TIMEOUT pending={}", queue.size());
+            executor.shutdownNow();
+        }
+        PendingWrite pending;
+        while ((pending = queue.poll()) != null) {
+            writeOne(pending);
+        }
+    }
+
+    private record PendingWrite(AuditLog row, UUID actorUserId) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.starterpack.backend.modules.audit.infrastructure;
+
+import com.starterpack.backend.modules.audit.api.dto.AuditLogResponse;
+import com.starterpack.backend.modules.audit.domain.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface AuditLogProjectionRepository {
+    Page<AuditLogResponse> findResponses(Specification<AuditLog> specification, Pageable pageable);
+}
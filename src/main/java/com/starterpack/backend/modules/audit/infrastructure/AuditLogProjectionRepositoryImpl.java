@@ -0,0 +1,45 @@
+package com.starterpack.backend.modules.audit.infrastructure;
+
+import java.util.List;
+
+import com.starterpack.backend.common.persistence.SpecificationProjections;
+import com.starterpack.backend.modules.audit.api.dto.AuditLogResponse;
+import com.starterpack.backend.modules.audit.domain.AuditLog;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+class AuditLogProjectionRepositoryImpl implements AuditLogProjectionRepository {
+    private final EntityManager entityManager;
+
+    AuditLogProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<AuditLogResponse> findResponses(Specification<AuditLog> specification, Pageable pageable) {
+        return SpecificationProjections.page(
+                entityManager,
+                AuditLog.class,
+                AuditLogResponse.class,
+                specification,
+                pageable,
+                root -> List.of(
+                        root.get("id"),
+                        root.get("occurredAt"),
+                        root.get("actorUser").get("id"),
+                        root.get("actorEmail"),
+                        root.get("action"),
+                        root.get("resourceType"),
+                        root.get("resourceId"),
+                        root.get("result"),
+                        root.get("reasonCode"),
+                        root.get("ipAddress"),
+                        root.get("userAgent"),
+                        root.get("requestId"),
+                        root.get("metadata")
+                )
+        );
+    }
+}
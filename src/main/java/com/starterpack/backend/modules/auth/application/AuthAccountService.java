@@ -10,6 +10,7 @@ import com.starterpack.backend.modules.auth.api.dto.DeleteAccountConfirmRequest;
 import com.starterpack.backend.modules.auth.api.dto.ResetPasswordRequest;
 import com.starterpack.backend.modules.auth.api.dto.UpdateMyProfileRequest;
 import com.starterpack.backend.modules.auth.application.port.AuthSessionCachePort;
+import com.starterpack.backend.modules.users.application.UserProfileService;
 import com.starterpack.backend.modules.users.domain.Account;
 import com.starterpack.backend.modules.users.domain.User;
 import com.starterpack.backend.modules.users.infrastructure.AccountRepository;
@@ -32,6 +33,7 @@ public class AuthAccountService {
     private final PasswordEncoder passwordEncoder;
     private final AuthSessionCachePort authSessionCache;
     private final AuthVerificationService authVerificationService;
+    private final UserProfileService userProfileService;
     private final AuditEventService auditEventService;
 
     public AuthAccountService(
@@ -42,6 +44,7 @@ public class AuthAccountService {
             PasswordEncoder passwordEncoder,
             AuthSessionCachePort authSessionCache,
             AuthVerificationService authVerificationService,
+            UserProfileService userProfileService,
             AuditEventService auditEventService
     ) {
         this.userRepository = userRepository;
@@ -51,15 +54,10 @@ public class AuthAccountService {
         this.passwordEncoder = passwordEncoder;
         this.authSessionCache = authSessionCache;
         this.authVerificationService = authVerificationService;
+        this.userProfileService = userProfileService;
         this.auditEventService = auditEventService;
     }
 
-    @Transactional(readOnly = true)
-    public User getCurrentUser(UUID userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> AppException.unauthorized("Unauthenticated"));
-    }
-
     public User updateMyProfile(User currentUser, UpdateMyProfileRequest request) {
         User user = userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> AppException.unauthorized("Unauthenticated"));
@@ -67,6 +65,7 @@ public class AuthAccountService {
         user.setName(request.name().trim());
         user.setPhone(trimToNull(request.phone()));
         user.setImage(trimToNull(request.image()));
+        userProfileService.evict(user.getId());
         return user;
     }
 
@@ -117,6 +116,7 @@ public class AuthAccountService {
         authSessionCache.evictAllUserSessions(existing.getId());
         verificationRepository.deleteByIdentifier(existing.getId().toString());
         userRepository.delete(existing);
+        userProfileService.evict(existing.getId());
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.AUTH_ACCOUNT_DELETE_CONFIRM,
                 "user",
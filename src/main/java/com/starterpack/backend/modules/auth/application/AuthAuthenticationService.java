@@ -128,6 +128,10 @@ public class AuthAuthenticationService {
             if (account.getPasswordHash() == null || !passwordEncoder.matches(request.password(), account.getPasswordHash())) {
                 throw AppException.unauthorized("Invalid credentials");
             }
+            if (passwordEncoder.upgradeEncoding(account.getPasswordHash())) {
+                account.setPasswordHash(passwordEncoder.encode(request.password()));
+                accountRepository.save(account);
+            }
 
             Session session = createSession(user, ipAddress, userAgent);
             authSessionCache.cacheSession(session);
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.starterpack.backend.common.error.AppException;
 import com.starterpack.backend.modules.auth.api.dto.ChangePasswordRequest;
 import com.starterpack.backend.modules.auth.api.dto.ConfirmVerificationRequest;
 import com.starterpack.backend.modules.auth.api.dto.DeleteAccountConfirmRequest;
@@ -17,6 +18,8 @@ import com.starterpack.backend.modules.auth.api.dto.ResetPasswordRequest;
 import com.starterpack.backend.modules.auth.api.dto.UpdateMyProfileRequest;
 import com.starterpack.backend.modules.auth.application.AuthAuthenticationService.AuthSessionData;
 import com.starterpack.backend.modules.auth.application.AuthVerificationService.IssuedVerificationData;
+import com.starterpack.backend.modules.users.api.dto.UserResponse;
+import com.starterpack.backend.modules.users.application.UserProfileService;
 import com.starterpack.backend.modules.users.domain.User;
 import com.starterpack.backend.modules.users.domain.Verification;
 import org.springframework.stereotype.Service;
@@ -26,15 +29,18 @@ public class AuthService {
     private final AuthAuthenticationService authAuthenticationService;
     private final AuthAccountService authAccountService;
     private final AuthVerificationService authVerificationService;
+    private final UserProfileService userProfileService;
 
     public AuthService(
             AuthAuthenticationService authAuthenticationService,
             AuthAccountService authAccountService,
-            AuthVerificationService authVerificationService
+            AuthVerificationService authVerificationService,
+            UserProfileService userProfileService
     ) {
         this.authAuthenticationService = authAuthenticationService;
         this.authAccountService = authAccountService;
         this.authVerificationService = authVerificationService;
+        this.userProfileService = userProfileService;
     }
 
     public AuthSession register(RegisterRequest request, String ipAddress, String userAgent) {
@@ -63,8 +69,8 @@ public class AuthService {
         authAuthenticationService.logoutAll(userId);
     }
 
-    public User getCurrentUser(UUID userId) {
-        return authAccountService.getCurrentUser(userId);
+    public UserResponse getCurrentUser(UUID userId) {
+        return userProfileService.getProfile(userId, () -> AppException.unauthorized("Unauthenticated"));
     }
 
     public User updateMyProfile(User currentUser, UpdateMyProfileRequest request) {
@@ -1,5 +1,6 @@
 package com.starterpack.backend.modules.auth.application;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.EnumMap;
 import java.util.List;
@@ -13,13 +14,16 @@ import com.starterpack.backend.config.AuthProperties;
 import com.starterpack.backend.modules.audit.application.AuditActions;
 import com.starterpack.backend.modules.audit.application.AuditEventService;
 import com.starterpack.backend.modules.auth.application.port.AuthEmailSenderPort;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort;
 import com.starterpack.backend.modules.auth.application.port.VerificationResendThrottlePort;
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort;
 import com.starterpack.backend.modules.auth.api.dto.ConfirmVerificationRequest;
 import com.starterpack.backend.modules.auth.api.dto.ForgotPasswordRequest;
 import com.starterpack.backend.modules.auth.api.dto.RequestVerificationRequest;
 import com.starterpack.backend.modules.auth.api.dto.ResetPasswordRequest;
 import com.starterpack.backend.modules.auth.application.verification.VerificationChannelTargetResolver;
 import com.starterpack.backend.modules.auth.application.verification.VerificationPurposeHandler;
+import com.starterpack.backend.modules.users.application.UserProfileService;
 import com.starterpack.backend.modules.users.domain.Account;
 import com.starterpack.backend.modules.users.domain.User;
 import com.starterpack.backend.modules.users.domain.Verification;
@@ -30,6 +34,8 @@ import com.starterpack.backend.modules.users.infrastructure.UserRepository;
 import com.starterpack.backend.modules.users.infrastructure.VerificationRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Service
@@ -44,6 +50,9 @@ public class AuthVerificationService {
     private final AuthTokenService authTokenService;
     private final AuthEmailSenderPort authEmailSenderPort;
     private final VerificationResendThrottlePort verificationResendThrottlePort;
+    private final VerificationTokenCachePort verificationTokenCache;
+    private final VerificationAttemptCounterPort verificationAttemptCounter;
+    private final UserProfileService userProfileService;
     private final AuditEventService auditEventService;
     private final Map<VerificationPurpose, VerificationPurposeHandler> purposeHandlers;
     private final Map<VerificationChannel, VerificationChannelTargetResolver> channelResolvers;
@@ -56,6 +65,9 @@ public class AuthVerificationService {
             AuthTokenService authTokenService,
             AuthEmailSenderPort authEmailSenderPort,
             VerificationResendThrottlePort verificationResendThrottlePort,
+            VerificationTokenCachePort verificationTokenCache,
+            VerificationAttemptCounterPort verificationAttemptCounter,
+            UserProfileService userProfileService,
             AuditEventService auditEventService,
             List<VerificationPurposeHandler> purposeHandlers,
             List<VerificationChannelTargetResolver> channelResolvers
@@ -67,6 +79,9 @@ public class AuthVerificationService {
         this.authTokenService = authTokenService;
         this.authEmailSenderPort = authEmailSenderPort;
         this.verificationResendThrottlePort = verificationResendThrottlePort;
+        this.verificationTokenCache = verificationTokenCache;
+        this.verificationAttemptCounter = verificationAttemptCounter;
+        this.userProfileService = userProfileService;
         this.auditEventService = auditEventService;
         this.purposeHandlers = indexPurposeHandlers(purposeHandlers);
         this.channelResolvers = indexChannelResolvers(channelResolvers);
@@ -117,12 +132,13 @@ public class AuthVerificationService {
         verification.setPurpose(request.purpose());
         verification.setChannel(request.channel());
         verification.setAttempts(0);
-        verification.setMaxAttempts(5);
+        verification.setMaxAttempts(authProperties.getVerification().getMaxAttempts());
 
         String plainToken = authTokenService.generateToken();
         verification.setTokenHash(authTokenService.hashToken(plainToken));
         verification.setExpiresAt(OffsetDateTime.now().plus(authProperties.getVerification().getTtl()));
         verificationRepository.save(verification);
+        mirrorAfterCommit(toTokenEntry(verification));
         if (request.channel() == VerificationChannel.EMAIL) {
             authEmailSenderPort.sendVerificationEmail(new AuthEmailSenderPort.VerificationEmailCommand(
                     target,
@@ -150,7 +166,7 @@ public class AuthVerificationService {
                 request.token()
         );
 
-        verification.setConsumedAt(OffsetDateTime.now());
+        consume(verification);
         applyVerificationEffect(verification);
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.AUTH_VERIFY_CONFIRM,
@@ -183,12 +199,13 @@ public class AuthVerificationService {
         verification.setPurpose(VerificationPurpose.PASSWORD_RESET);
         verification.setChannel(VerificationChannel.EMAIL);
         verification.setAttempts(0);
-        verification.setMaxAttempts(5);
+        verification.setMaxAttempts(authProperties.getVerification().getMaxAttempts());
 
         String plainToken = authTokenService.generateToken();
         verification.setTokenHash(authTokenService.hashToken(plainToken));
         verification.setExpiresAt(OffsetDateTime.now().plus(authProperties.getVerification().getTtl()));
         verificationRepository.save(verification);
+        mirrorAfterCommit(toTokenEntry(verification));
         authEmailSenderPort.sendPasswordResetEmail(new AuthEmailSenderPort.PasswordResetEmailCommand(
                 email,
                 user.getName(),
@@ -212,7 +229,7 @@ public class AuthVerificationService {
                 VerificationChannel.EMAIL,
                 request.token()
         );
-        verification.setConsumedAt(OffsetDateTime.now());
+        consume(verification);
         return parseUuid(request.identifier(), "Invalid identifier");
     }
 
@@ -223,7 +240,7 @@ public class AuthVerificationService {
                 VerificationChannel.EMAIL,
                 token
         );
-        verification.setConsumedAt(OffsetDateTime.now());
+        consume(verification);
     }
 
     private Verification resolveVerification(
@@ -232,15 +249,103 @@ public class AuthVerificationService {
             VerificationChannel channel,
             String plainToken
     ) {
-        return verificationRepository
-                .findFirstByIdentifierAndPurposeAndChannelAndTokenHashAndConsumedAtIsNullAndExpiresAtAfter(
-                        identifier,
-                        purpose,
-                        channel,
-                        authTokenService.hashToken(plainToken),
-                        OffsetDateTime.now()
-                )
-                .orElseThrow(() -> AppException.badRequest("Invalid or expired token"));
+        String tokenHash = authTokenService.hashToken(plainToken);
+        OffsetDateTime now = OffsetDateTime.now();
+        VerificationTokenCachePort.Lookup lookup = verificationTokenCache.lookup(identifier, purpose, channel, tokenHash);
+        Optional<Verification> verification = switch (lookup.status()) {
+            case MISS -> Optional.empty();
+            case HIT -> verificationRepository.findById(lookup.verificationId())
+                    .filter(candidate -> candidate.getConsumedAt() == null
+                            && candidate.getExpiresAt().isAfter(now)
+                            && candidate.getIdentifier().equals(identifier)
+                            && candidate.getPurpose() == purpose
+                            && candidate.getChannel() == channel
+                            && candidate.getTokenHash().equals(tokenHash));
+            case UNAVAILABLE -> verificationRepository
+                    .findFirstByIdentifierAndPurposeAndChannelAndTokenHashAndConsumedAtIsNullAndExpiresAtAfter(
+                            identifier,
+                            purpose,
+                            channel,
+                            tokenHash,
+                            now
+                    );
+        };
+        if (verification.isEmpty()) {
+            verificationAttemptCounter.recordFailure(identifier, purpose, channel, attemptWindow());
+            throw AppException.badRequest("Invalid or expired token");
+        }
+        // Even the right token is refused once the row's limit is reached. The
+        // written-back row count covers a Redis outage.
+        long attempts = Math.max(
+                verificationAttemptCounter.attempts(identifier, purpose, channel),
+                verification.get().getAttempts()
+        );
+        if (attempts >= verification.get().getMaxAttempts()) {
+            throw AppException.badRequest("Too many invalid attempts. Request a new verification.");
+        }
+        return verification.get();
+    }
+
+    private void mirrorAfterCommit(VerificationTokenCachePort.TokenEntry entry) {
+        // A rolled-back token must never become a cache HIT.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    verificationTokenCache.put(entry);
+                }
+            });
+        } else {
+            verificationTokenCache.put(entry);
+        }
+    }
+
+    private Duration attemptWindow() {
+        Duration ttl = authProperties.getVerification().getTtl();
+        Duration bulkTtl = authProperties.getVerification().getBulkTtl();
+        return ttl.compareTo(bulkTtl) >= 0 ? ttl : bulkTtl;
+    }
+
+    private void consume(Verification verification) {
+        verification.setConsumedAt(OffsetDateTime.now());
+        verificationTokenCache.evict(
+                verification.getIdentifier(),
+                verification.getPurpose(),
+                verification.getChannel(),
+                verification.getTokenHash()
+        );
+        resetAttemptsAfterCommit(verification);
+    }
+
+    private void resetAttemptsAfterCommit(Verification verification) {
+        // Only a confirmed token clears the lockout; issuing one must not, or anyone
+        // could reset it through the unauthenticated forgot-password endpoint.
+        Runnable reset = () -> verificationAttemptCounter.reset(
+                List.of(verification.getIdentifier()),
+                verification.getPurpose(),
+                verification.getChannel()
+        );
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reset.run();
+                }
+            });
+        } else {
+            reset.run();
+        }
+    }
+
+    private VerificationTokenCachePort.TokenEntry toTokenEntry(Verification verification) {
+        return new VerificationTokenCachePort.TokenEntry(
+                verification.getId(),
+                verification.getIdentifier(),
+                verification.getPurpose(),
+                verification.getChannel(),
+                verification.getTokenHash(),
+                verification.getExpiresAt()
+        );
     }
 
     private void applyVerificationEffect(Verification verification) {
@@ -252,6 +357,7 @@ public class AuthVerificationService {
             throw AppException.badRequest("Unsupported verification purpose");
         }
         handler.apply(user, verification);
+        userProfileService.evict(user.getId());
     }
 
     private String resolveTarget(User user, VerificationChannel channel, String target) {
@@ -288,7 +394,7 @@ public class AuthVerificationService {
         return email.trim().toLowerCase(Locale.ROOT);
     }
 
-    private String buildVerificationLink(String identifier, String token, VerificationPurpose purpose) {
+    String buildVerificationLink(String identifier, String token, VerificationPurpose purpose) {
         return UriComponentsBuilder.fromUriString(authProperties.getMail().getVerificationLinkBaseUrl())
                 .queryParam("identifier", identifier)
                 .queryParam("token", token)
@@ -0,0 +1,215 @@
+package com.starterpack.backend.modules.auth.application;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.starterpack.backend.common.error.AppException;
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.audit.application.AuditActions;
+import com.starterpack.backend.modules.audit.application.AuditEventService;
+import com.starterpack.backend.modules.audit.domain.AuditResult;
+import com.starterpack.backend.modules.auth.application.model.BulkVerificationJob;
+import com.starterpack.backend.modules.auth.application.port.AuthEmailSenderPort;
+import com.starterpack.backend.modules.auth.application.port.BulkVerificationJobStorePort;
+import com.starterpack.backend.modules.auth.application.port.VerificationCampaignStorePort;
+import com.starterpack.backend.modules.auth.application.port.VerificationCampaignStorePort.CampaignTarget;
+import com.starterpack.backend.modules.auth.application.port.VerificationCampaignStorePort.NewVerification;
+import com.starterpack.backend.modules.auth.application.port.VerificationCampaignStorePort.TargetFilter;
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort;
+import com.starterpack.backend.modules.users.domain.User;
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class BulkVerificationService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(BulkVerificationService.class);
+    private static final int MAX_EXPLICIT_USER_IDS = 10_000;
+    private static final int MAX_QUEUED_JOBS = 4;
+
+    private final VerificationCampaignStorePort campaignStore;
+    private final BulkVerificationJobStorePort jobStore;
+    private final AuthEmailSenderPort authEmailSenderPort;
+    private final VerificationTokenCachePort verificationTokenCache;
+    private final AuthTokenService authTokenService;
+    private final AuthVerificationService authVerificationService;
+    private final AuthProperties authProperties;
+    private final AuditEventService auditEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public BulkVerificationService(
+            VerificationCampaignStorePort campaignStore,
+            BulkVerificationJobStorePort jobStore,
+            AuthEmailSenderPort authEmailSenderPort,
+            VerificationTokenCachePort verificationTokenCache,
+            AuthTokenService authTokenService,
+            AuthVerificationService authVerificationService,
+            AuthProperties authProperties,
+            AuditEventService auditEventService,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.campaignStore = campaignStore;
+        this.jobStore = jobStore;
+        this.authEmailSenderPort = authEmailSenderPort;
+        this.verificationTokenCache = verificationTokenCache;
+        this.authTokenService = authTokenService;
+        this.authVerificationService = authVerificationService;
+        this.authProperties = authProperties;
+        this.auditEventService = auditEventService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_JOBS),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-verification");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public BulkVerificationJob start(TargetFilter filter, User actor) {
+        if (filter.userIds() != null && filter.userIds().size() > MAX_EXPLICIT_USER_IDS) {
+            throw AppException.badRequest("userIds cannot contain more than " + MAX_EXPLICIT_USER_IDS + " entries");
+        }
+
+        BulkVerificationJob job = BulkVerificationJob.queued(UUID.randomUUID(), actor.getId());
+        jobStore.save(job);
+        try {
+            executor.execute(() -> run(job, filter, actor.getEmail()));
+        } catch (RejectedExecutionException ex) {
+            jobStore.save(job.failed("rejected"));
+            throw AppException.conflict("Too many verification campaigns are queued. Try again later.");
+        }
+        logger.info("BULK_VERIFY_QUEUED jobId={} actor={}", job.id(), actor.getId());
+        return job;
+    }
+
+    public BulkVerificationJob getJob(UUID jobId) {
+        return jobStore.find(jobId)
+                .orElseThrow(() -> AppException.notFound("Verification campaign not found"));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void run(BulkVerificationJob queued, TargetFilter filter, String actorEmail) {
+        int chunkSize = Math.max(1, authProperties.getVerification().getBulkChunkSize());
+        BulkVerificationJob job = queued;
+        long startedAt = System.currentTimeMillis();
+        try {
+            job = job.running(campaignStore.countTargets(filter));
+            jobStore.save(job);
+
+            UUID afterUserId = null;
+            while (true) {
+                List<CampaignTarget> targets = campaignStore.nextTargets(filter, afterUserId, chunkSize);
+                if (targets.isEmpty()) {
+                    break;
+                }
+
+                List<VerificationTokenCachePort.TokenEntry> issued = transactionTemplate.execute(status -> issueBatch(targets));
+                // Mirrored only once committed, so a rolled-back batch never becomes a cache HIT.
+                verificationTokenCache.putAll(issued);
+                afterUserId = targets.get(targets.size() - 1).userId();
+                job = job.batchDone(targets.size());
+                jobStore.save(job);
+                recordBatchAudit(job, targets.size(), actorEmail);
+
+                if (targets.size() < chunkSize) {
+                    break;
+                }
+            }
+
+            job = job.completed();
+            logger.info("BULK_VERIFY_DONE jobId={} issued={} batches={} durationMs={}",
+                    job.id(), job.issued(), job.batches(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException ex) {
+            job = job.failed(ex.getMessage());
+            logger.warn("BULK_VERIFY_FAILED jobId={} processed={} message={}", job.id(), job.processed(), ex.getMessage());
+        }
+        jobStore.save(job);
+    }
+
+    private List<VerificationTokenCachePort.TokenEntry> issueBatch(List<CampaignTarget> targets) {
+        OffsetDateTime expiresAt = OffsetDateTime.now().plus(authProperties.getVerification().getBulkTtl());
+        List<NewVerification> verifications = new ArrayList<>(targets.size());
+        List<AuthEmailSenderPort.VerificationEmailCommand> emails = new ArrayList<>(targets.size());
+        for (CampaignTarget target : targets) {
+            String identifier = target.userId().toString();
+            String plainToken = authTokenService.generateToken();
+            verifications.add(new NewVerification(
+                    UUID.randomUUID(),
+                    identifier,
+                    target.email(),
+                    VerificationPurpose.EMAIL_VERIFICATION,
+                    VerificationChannel.EMAIL,
+                    authTokenService.hashToken(plainToken),
+                    expiresAt,
+                    authProperties.getVerification().getMaxAttempts()
+            ));
+            emails.add(new AuthEmailSenderPort.VerificationEmailCommand(
+                    target.email(),
+                    target.name(),
+                    VerificationPurpose.EMAIL_VERIFICATION,
+                    identifier,
+                    plainToken,
+                    authVerificationService.buildVerificationLink(identifier, plainToken, VerificationPurpose.EMAIL_VERIFICATION)
+            ));
+        }
+        campaignStore.insertVerifications(verifications);
+        authEmailSenderPort.sendVerificationEmails(emails);
+        return verifications.stream()
+                .map(verification -> new VerificationTokenCachePort.TokenEntry(
+                        verification.id(),
+                        verification.identifier(),
+                        verification.purpose(),
+                        verification.channel(),
+                        verification.tokenHash(),
+                        verification.expiresAt()
+                ))
+                .toList();
+    }
+
+    private void recordBatchAudit(BulkVerificationJob job, int batchSize, String actorEmail) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("batch", job.batches());
+        metadata.put("issued", batchSize);
+        metadata.put("processed", job.processed());
+        metadata.put("total", job.total());
+        metadata.put("purpose", VerificationPurpose.EMAIL_VERIFICATION.name());
+        metadata.put("channel", VerificationChannel.EMAIL.name());
+        auditEventService.record(new AuditEventService.AuditEvent(
+                AuditActions.AUTH_VERIFY_BULK_ISSUE,
+                "verification_campaign",
+                job.id().toString(),
+                AuditResult.SUCCESS,
+                null,
+                job.requestedBy(),
+                actorEmail,
+                null,
+                null,
+                null,
+                metadata
+        ));
+    }
+}
@@ -0,0 +1,31 @@
+package com.starterpack.backend.modules.auth.application;
+
+import java.util.List;
+
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort.AttemptCount;
+import com.starterpack.backend.modules.users.infrastructure.VerificationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class VerificationAttemptSyncExecutor {
+    private final VerificationRepository verificationRepository;
+
+    public VerificationAttemptSyncExecutor(VerificationRepository verificationRepository) {
+        this.verificationRepository = verificationRepository;
+    }
+
+    @Transactional
+    public int writeBack(List<AttemptCount> counts) {
+        int updated = 0;
+        for (AttemptCount count : counts) {
+            updated += verificationRepository.raiseAttempts(
+                    count.identifier(),
+                    count.purpose(),
+                    count.channel(),
+                    (int) Math.min(Integer.MAX_VALUE, count.attempts())
+            );
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,61 @@
+package com.starterpack.backend.modules.auth.application;
+
+import java.util.List;
+
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort.AttemptCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerificationAttemptSyncJob {
+    private static final Logger logger = LoggerFactory.getLogger(VerificationAttemptSyncJob.class);
+
+    private final VerificationAttemptCounterPort verificationAttemptCounter;
+    private final VerificationAttemptSyncExecutor verificationAttemptSyncExecutor;
+    private final AuthProperties authProperties;
+
+    public VerificationAttemptSyncJob(
+            VerificationAttemptCounterPort verificationAttemptCounter,
+            VerificationAttemptSyncExecutor verificationAttemptSyncExecutor,
+            AuthProperties authProperties
+    ) {
+        this.verificationAttemptCounter = verificationAttemptCounter;
+        this.verificationAttemptSyncExecutor = verificationAttemptSyncExecutor;
+        this.authProperties = authProperties;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${auth.verification.attempts-sync-interval:PT30S}",
+            initialDelayString = "${auth.verification.attempts-sync-interval:PT30S}"
+    )
+    public void sync() {
+        int batchSize = Math.max(1, authProperties.getVerification().getAttemptsSyncBatchSize());
+        long drained = 0;
+        long updated = 0;
+        try {
+            while (true) {
+                List<AttemptCount> counts = verificationAttemptCounter.dirty(batchSize);
+                if (counts.isEmpty()) {
+                    break;
+                }
+                updated += verificationAttemptSyncExecutor.writeBack(counts);
+                // Only after the rows are committed; a failed write-back leaves them dirty for the next run.
+                verificationAttemptCounter.acknowledge(counts);
+                drained += counts.size();
+                if (counts.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("VERIFY_ATTEMPTS_SYNC_FAILED drained={} message={}", drained, ex.getMessage());
+            return;
+        }
+        if (drained > 0) {
+            logger.info("VERIFY_ATTEMPTS_SYNCED counters={} rows={}", drained, updated);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.starterpack.backend.modules.auth.application;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort;
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort.TokenEntry;
+import com.starterpack.backend.modules.users.domain.Verification;
+import com.starterpack.backend.modules.users.infrastructure.VerificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerificationTokenCacheWarmer {
+    private static final Logger logger = LoggerFactory.getLogger(VerificationTokenCacheWarmer.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+    private final VerificationRepository verificationRepository;
+    private final VerificationTokenCachePort verificationTokenCache;
+
+    public VerificationTokenCacheWarmer(
+            VerificationRepository verificationRepository,
+            VerificationTokenCachePort verificationTokenCache
+    ) {
+        this.verificationRepository = verificationRepository;
+        this.verificationTokenCache = verificationTokenCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensureWarm();
+    }
+
+    @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+    public void ensureWarm() {
+        if (verificationTokenCache.isReady()) {
+            return;
+        }
+        try {
+            long mirrorVersion = verificationTokenCache.mirrorVersion();
+            long startedAt = System.currentTimeMillis();
+            OffsetDateTime now = OffsetDateTime.now();
+            UUID afterId = MIN_UUID;
+            long mirrored = 0;
+            while (true) {
+                List<Verification> active = verificationRepository
+                        .findByConsumedAtIsNullAndExpiresAtAfterAndIdGreaterThanOrderByIdAsc(now, afterId, Limit.of(BATCH_SIZE));
+                if (active.isEmpty()) {
+                    break;
+                }
+                verificationTokenCache.putAll(active.stream().map(this::toEntry).toList());
+                mirrored += active.size();
+                afterId = active.get(active.size() - 1).getId();
+                if (active.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (!verificationTokenCache.markReady(mirrorVersion)) {
+                logger.warn("VERIFY_TOKEN_CACHE_WARM_RETRY reason=write_failed_during_warm tokens={}", mirrored);
+                return;
+            }
+            logger.info("VERIFY_TOKEN_CACHE_WARMED tokens={} durationMs={}", mirrored, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException ex) {
+            logger.warn("VERIFY_TOKEN_CACHE_WARM_FAILED message={}", ex.getMessage());
+        }
+    }
+
+    private TokenEntry toEntry(Verification verification) {
+        return new TokenEntry(
+                verification.getId(),
+                verification.getIdentifier(),
+                verification.getPurpose(),
+                verification.getChannel(),
+                verification.getTokenHash(),
+                verification.getExpiresAt()
+        );
+    }
+}
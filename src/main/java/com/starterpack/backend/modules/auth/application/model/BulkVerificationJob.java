@@ -0,0 +1,55 @@
+package com.starterpack.backend.modules.auth.application.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record BulkVerificationJob(
+        UUID id,
+        Status status,
+        long total,
+        long processed,
+        long issued,
+        int batches,
+        UUID requestedBy,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        String error
+) {
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static BulkVerificationJob queued(UUID id, UUID requestedBy) {
+        return new BulkVerificationJob(id, Status.QUEUED, 0, 0, 0, 0, requestedBy, OffsetDateTime.now(), null, null);
+    }
+
+    public BulkVerificationJob running(long total) {
+        return new BulkVerificationJob(id, Status.RUNNING, total, processed, issued, batches, requestedBy, startedAt, null, null);
+    }
+
+    public BulkVerificationJob batchDone(int batchSize) {
+        return new BulkVerificationJob(
+                id,
+                status,
+                total,
+                processed + batchSize,
+                issued + batchSize,
+                batches + 1,
+                requestedBy,
+                startedAt,
+                finishedAt,
+                error
+        );
+    }
+
+    public BulkVerificationJob completed() {
+        return new BulkVerificationJob(id, Status.COMPLETED, total, processed, issued, batches, requestedBy, startedAt, OffsetDateTime.now(), null);
+    }
+
+    public BulkVerificationJob failed(String error) {
+        return new BulkVerificationJob(id, Status.FAILED, total, processed, issued, batches, requestedBy, startedAt, OffsetDateTime.now(), error);
+    }
+}
@@ -1,10 +1,9 @@
 package com.starterpack.backend.modules.auth.application.model;
 
 import java.time.OffsetDateTime;
-import java.util.Set;
 import java.util.UUID;
 
-import com.starterpack.backend.modules.users.domain.Permission;
+import com.starterpack.backend.modules.users.domain.PermissionBits;
 import com.starterpack.backend.modules.users.domain.Role;
 import com.starterpack.backend.modules.users.domain.Session;
 
@@ -17,15 +16,13 @@ public record CachedAuthContext(
         String refreshToken,
         OffsetDateTime refreshExpiresAt,
         String roleName,
-        Set<String> permissions
+        long[] permissionBits
 ) {
     public static CachedAuthContext fromSession(Session session) {
         Role role = session.getUser().getRole();
-        Set<String> permissionNames = role == null
-                ? Set.of()
-                : role.getPermissions().stream()
-                .map(Permission::getName)
-                .collect(java.util.stream.Collectors.toSet());
+        PermissionBits permissionBits = role == null
+                ? PermissionBits.EMPTY
+                : PermissionBits.ofPermissions(role.getPermissions());
         return new CachedAuthContext(
                 session.getId(),
                 session.getUser().getId(),
@@ -35,7 +32,7 @@ public record CachedAuthContext(
                 session.getRefreshToken(),
                 session.getRefreshExpiresAt(),
                 role == null ? null : role.getName(),
-                permissionNames
+                permissionBits.toWords()
         );
     }
 }
@@ -1,10 +1,14 @@
 package com.starterpack.backend.modules.auth.application.port;
 
+import java.util.List;
+
 import com.starterpack.backend.modules.users.domain.VerificationPurpose;
 
 public interface AuthEmailSenderPort {
     void sendVerificationEmail(VerificationEmailCommand command);
 
+    void sendVerificationEmails(List<VerificationEmailCommand> commands);
+
     void sendPasswordResetEmail(PasswordResetEmailCommand command);
 
     record VerificationEmailCommand(
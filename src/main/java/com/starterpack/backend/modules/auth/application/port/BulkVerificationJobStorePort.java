@@ -0,0 +1,12 @@
+package com.starterpack.backend.modules.auth.application.port;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.auth.application.model.BulkVerificationJob;
+
+public interface BulkVerificationJobStorePort {
+    void save(BulkVerificationJob job);
+
+    Optional<BulkVerificationJob> find(UUID jobId);
+}
@@ -0,0 +1,32 @@
+package com.starterpack.backend.modules.auth.application.port;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+
+public interface VerificationAttemptCounterPort {
+    long UNAVAILABLE = -1;
+
+    long attempts(String identifier, VerificationPurpose purpose, VerificationChannel channel);
+
+    long recordFailure(String identifier, VerificationPurpose purpose, VerificationChannel channel, Duration window);
+
+    void reset(Collection<String> identifiers, VerificationPurpose purpose, VerificationChannel channel);
+
+    /** Returns up to {@code limit} counters changed since their last acknowledged write-back. */
+    List<AttemptCount> dirty(int limit);
+
+    /** Marks counters as persisted, unless they changed again after {@link #dirty} read them. */
+    void acknowledge(Collection<AttemptCount> counts);
+
+    record AttemptCount(
+            String identifier,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            long attempts
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.starterpack.backend.modules.auth.application.port;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+
+public interface VerificationCampaignStorePort {
+    long countTargets(TargetFilter filter);
+
+    List<CampaignTarget> nextTargets(TargetFilter filter, UUID afterUserId, int limit);
+
+    void insertVerifications(List<NewVerification> verifications);
+
+    record TargetFilter(
+            Integer roleId,
+            Boolean emailVerified,
+            List<UUID> userIds
+    ) {
+    }
+
+    record CampaignTarget(
+            UUID userId,
+            String email,
+            String name
+    ) {
+    }
+
+    record NewVerification(
+            UUID id,
+            String identifier,
+            String target,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash,
+            OffsetDateTime expiresAt,
+            int maxAttempts
+    ) {
+    }
+}
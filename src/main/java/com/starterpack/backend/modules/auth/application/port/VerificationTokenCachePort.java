@@ -0,0 +1,51 @@
+package com.starterpack.backend.modules.auth.application.port;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+
+public interface VerificationTokenCachePort {
+    void put(TokenEntry entry);
+
+    void putAll(Collection<TokenEntry> entries);
+
+    Lookup lookup(String identifier, VerificationPurpose purpose, VerificationChannel channel, String tokenHash);
+
+    void evict(String identifier, VerificationPurpose purpose, VerificationChannel channel, String tokenHash);
+
+    boolean isReady();
+
+    /** Shared across nodes and bumped whenever a mirror write fails; pass it to {@link #markReady(long)}. */
+    long mirrorVersion();
+
+    /** Sets the ready marker unless a mirror write failed on any node since {@code mirrorVersion} was read. */
+    boolean markReady(long mirrorVersion);
+
+    record TokenEntry(
+            UUID verificationId,
+            String identifier,
+            VerificationPurpose purpose,
+            VerificationChannel channel,
+            String tokenHash,
+            OffsetDateTime expiresAt
+    ) {
+    }
+
+    record Lookup(Status status, UUID verificationId) {
+        public static final Lookup MISS = new Lookup(Status.MISS, null);
+        public static final Lookup UNAVAILABLE = new Lookup(Status.UNAVAILABLE, null);
+
+        public static Lookup hit(UUID verificationId) {
+            return new Lookup(Status.HIT, verificationId);
+        }
+
+        public enum Status {
+            HIT,
+            MISS,
+            UNAVAILABLE
+        }
+    }
+}
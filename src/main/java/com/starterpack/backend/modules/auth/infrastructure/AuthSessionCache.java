@@ -6,6 +6,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+import com.starterpack.backend.common.metrics.CacheMeters;
+import com.starterpack.backend.common.metrics.RedisMetrics;
 import com.starterpack.backend.config.AuthProperties;
 import com.starterpack.backend.modules.auth.application.model.CachedAuthContext;
 import com.starterpack.backend.modules.auth.application.model.CachedRefreshRef;
@@ -26,56 +28,77 @@ public class AuthSessionCache implements AuthSessionCachePort {
     private final StringRedisTemplate redis;
     private final ObjectMapper objectMapper;
     private final AuthProperties authProperties;
+    private final RedisMetrics redisMetrics;
+    private final CacheMeters sessionMeters;
+    private final CacheMeters refreshMeters;
 
     public AuthSessionCache(
             StringRedisTemplate redis,
             ObjectMapper objectMapper,
-            AuthProperties authProperties
+            AuthProperties authProperties,
+            RedisMetrics redisMetrics
     ) {
         this.redis = redis;
         this.objectMapper = objectMapper;
         this.authProperties = authProperties;
+        this.redisMetrics = redisMetrics;
+        this.sessionMeters = redisMetrics.cache("auth-session");
+        this.refreshMeters = redisMetrics.cache("auth-refresh");
     }
 
     public Optional<CachedAuthContext> findBySessionToken(String sessionToken) {
+        long started = System.nanoTime();
         try {
             String json = redis.opsForValue().get(sessionKey(sessionToken));
             if (json == null) {
-                cacheLogger.info("CACHE_AUTH_MISS sid={}", tokenId(sessionToken));
+                sessionMeters.miss();
+                cacheLogger.debug("CACHE_AUTH_MISS sid={}", tokenId(sessionToken));
                 return Optional.empty();
             }
             Optional<CachedAuthContext> context = deserializeContext(json);
             if (context.isEmpty()) {
                 redis.delete(sessionKey(sessionToken));
-                cacheLogger.info("CACHE_AUTH_STALE sid={} action=deleted", tokenId(sessionToken));
+                sessionMeters.stale();
+                cacheLogger.debug("CACHE_AUTH_STALE sid={} action=deleted", tokenId(sessionToken));
             } else {
-                cacheLogger.info("CACHE_AUTH_HIT sid={}", tokenId(sessionToken));
+                sessionMeters.hit();
+                cacheLogger.debug("CACHE_AUTH_HIT sid={}", tokenId(sessionToken));
             }
             return context;
         } catch (RuntimeException ex) {
+            redisMetrics.fallback("auth-session", "get");
             logger.warn("Redis unavailable while reading session cache: {}", ex.getMessage());
             return Optional.empty();
+        } finally {
+            sessionMeters.recordGet(started);
         }
     }
 
     public Optional<CachedRefreshRef> findByRefreshToken(String refreshToken) {
+        long started = System.nanoTime();
         try {
             String json = redis.opsForValue().get(refreshKey(refreshToken));
             if (json == null) {
-                cacheLogger.info("CACHE_REFRESH_MISS rid={}", tokenId(refreshToken));
+                refreshMeters.miss();
+                cacheLogger.debug("CACHE_REFRESH_MISS rid={}", tokenId(refreshToken));
                 return Optional.empty();
             }
             Optional<CachedRefreshRef> ref = deserializeRefreshRef(json);
             if (ref.isEmpty()) {
                 redis.delete(refreshKey(refreshToken));
-                cacheLogger.info("CACHE_REFRESH_STALE rid={} action=deleted", tokenId(refreshToken));
+                refreshMeters.stale();
+                cacheLogger.debug("CACHE_REFRESH_STALE rid={} action=deleted", tokenId(refreshToken));
             } else {
-                cacheLogger.info("CACHE_REFRESH_HIT rid={}", tokenId(refreshToken));
+                refreshMeters.hit();
+                cacheLogger.debug("CACHE_REFRESH_HIT rid={}", tokenId(refreshToken));
             }
             return ref;
         } catch (RuntimeException ex) {
+            redisMetrics.fallback("auth-refresh", "get");
             logger.warn("Redis unavailable while reading refresh cache: {}", ex.getMessage());
             return Optional.empty();
+        } finally {
+            refreshMeters.recordGet(started);
         }
     }
 
@@ -93,6 +116,7 @@ public class AuthSessionCache implements AuthSessionCachePort {
             return;
         }
 
+        long started = System.nanoTime();
         try {
             String contextJson = objectMapper.writeValueAsString(context);
             redis.opsForValue().set(sessionKey(context.sessionToken()), contextJson, sessionTtl);
@@ -109,7 +133,7 @@ public class AuthSessionCache implements AuthSessionCachePort {
 
             redis.opsForSet().add(userSessionSetKey(context.userId()), context.sessionToken());
             redis.expire(userSessionSetKey(context.userId()), refreshTtl);
-            cacheLogger.info(
+            cacheLogger.debug(
                     "CACHE_AUTH_WRITE sid={} rid={} userId={} ttlSid={} ttlRid={}",
                     tokenId(context.sessionToken()),
                     tokenId(context.refreshToken()),
@@ -120,11 +144,15 @@ public class AuthSessionCache implements AuthSessionCachePort {
         } catch (JsonProcessingException ex) {
             logger.warn("Failed to serialize auth cache payload: {}", ex.getMessage());
         } catch (RuntimeException ex) {
+            redisMetrics.fallback("auth-session", "put");
             logger.warn("Redis unavailable while writing session cache: {}", ex.getMessage());
+        } finally {
+            sessionMeters.recordPut(started);
         }
     }
 
     public void evictSession(String sessionToken, String refreshToken, UUID userId) {
+        long started = System.nanoTime();
         try {
             if (sessionToken != null && !sessionToken.isBlank()) {
                 redis.delete(sessionKey(sessionToken));
@@ -135,9 +163,12 @@ public class AuthSessionCache implements AuthSessionCachePort {
             if (userId != null && sessionToken != null && !sessionToken.isBlank()) {
                 redis.opsForSet().remove(userSessionSetKey(userId), sessionToken);
             }
-            cacheLogger.info("CACHE_AUTH_EVICT sid={} rid={} userId={}", tokenId(sessionToken), tokenId(refreshToken), userId);
+            cacheLogger.debug("CACHE_AUTH_EVICT sid={} rid={} userId={}", tokenId(sessionToken), tokenId(refreshToken), userId);
         } catch (RuntimeException ex) {
+            redisMetrics.fallback("auth-session", "evict");
             logger.warn("Redis unavailable while evicting session cache: {}", ex.getMessage());
+        } finally {
+            sessionMeters.recordEvict(started);
         }
     }
 
@@ -156,8 +187,9 @@ public class AuthSessionCache implements AuthSessionCachePort {
                 }
             }
             redis.delete(setKey);
-            cacheLogger.info("CACHE_AUTH_EVICT_ALL userId={} sessions={}", userId, sessionTokens == null ? 0 : sessionTokens.size());
+            cacheLogger.debug("CACHE_AUTH_EVICT_ALL userId={} sessions={}", userId, sessionTokens == null ? 0 : sessionTokens.size());
         } catch (RuntimeException ex) {
+            redisMetrics.fallback("auth-session", "evict-all");
             logger.warn("Redis unavailable while evicting user sessions: {}", ex.getMessage());
         }
     }
@@ -165,6 +197,9 @@ public class AuthSessionCache implements AuthSessionCachePort {
     private Optional<CachedAuthContext> deserializeContext(String json) {
         try {
             CachedAuthContext context = objectMapper.readValue(json, CachedAuthContext.class);
+            if (context.permissionBits() == null) {
+                return Optional.empty();
+            }
             return Optional.of(context);
         } catch (JsonProcessingException ex) {
             logger.warn("Failed to deserialize cached auth context: {}", ex.getMessage());
@@ -0,0 +1,101 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.auth.application.port.VerificationCampaignStorePort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JdbcVerificationCampaignStore implements VerificationCampaignStorePort {
+    private static final String INSERT_VERIFICATION = """
+            INSERT INTO verifications (
+                id, identifier, target, purpose, channel, token_hash,
+                expires_at, attempts, max_attempts, created_at, updated_at
+            )
+            VALUES (?, ?, ?, ?::verification_purpose, ?::verification_channel, ?, ?, 0, ?, now(), now())
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public JdbcVerificationCampaignStore(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @Override
+    public long countTargets(TargetFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT count(*) FROM users u" + where(filter, null, params);
+        Long count = namedJdbcTemplate.queryForObject(sql, params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public List<CampaignTarget> nextTargets(TargetFilter filter, UUID afterUserId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT u.id, u.email, u.name FROM users u"
+                + where(filter, afterUserId, params)
+                + " ORDER BY u.id LIMIT :limit";
+        params.addValue("limit", limit);
+        return namedJdbcTemplate.query(sql, params, (rs, rowNum) -> new CampaignTarget(
+                rs.getObject("id", UUID.class),
+                rs.getString("email"),
+                rs.getString("name")
+        ));
+    }
+
+    @Override
+    public void insertVerifications(List<NewVerification> verifications) {
+        if (verifications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_VERIFICATION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewVerification verification = verifications.get(i);
+                ps.setObject(1, verification.id());
+                ps.setString(2, verification.identifier());
+                ps.setString(3, verification.target());
+                ps.setString(4, verification.purpose().name());
+                ps.setString(5, verification.channel().name());
+                ps.setString(6, verification.tokenHash());
+                ps.setObject(7, verification.expiresAt());
+                ps.setInt(8, verification.maxAttempts());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return verifications.size();
+            }
+        });
+    }
+
+    private String where(TargetFilter filter, UUID afterUserId, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" WHERE u.status = 'ACTIVE' AND u.email IS NOT NULL");
+        if (filter.roleId() != null) {
+            where.append(" AND u.role_id = :roleId");
+            params.addValue("roleId", filter.roleId());
+        }
+        if (filter.emailVerified() != null) {
+            where.append(" AND u.email_verified = :emailVerified");
+            params.addValue("emailVerified", filter.emailVerified());
+        }
+        if (filter.userIds() != null && !filter.userIds().isEmpty()) {
+            where.append(" AND u.id IN (:userIds)");
+            params.addValue("userIds", filter.userIds());
+        }
+        if (afterUserId != null) {
+            where.append(" AND u.id > :afterUserId");
+            params.addValue("afterUserId", afterUserId);
+        }
+        return where.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.starterpack.backend.common.logging.RequestTimings;
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.port.AuthEmailSenderPort;
+import com.starterpack.backend.modules.mail.application.EmailOutboxService;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxAuthEmailSender implements AuthEmailSenderPort {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxAuthEmailSender.class);
+
+    private static final String VERIFICATION_TEMPLATE = "verification";
+    private static final String PASSWORD_RESET_TEMPLATE = "password-reset";
+
+    private final EmailOutboxService emailOutboxService;
+    private final AuthProperties authProperties;
+
+    public OutboxAuthEmailSender(EmailOutboxService emailOutboxService, AuthProperties authProperties) {
+        this.emailOutboxService = emailOutboxService;
+        this.authProperties = authProperties;
+    }
+
+    @Override
+    public void sendVerificationEmail(VerificationEmailCommand command) {
+        send(verificationDraft(command));
+    }
+
+    @Override
+    public void sendVerificationEmails(List<VerificationEmailCommand> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<EmailOutboxService.EmailDraft> drafts = new ArrayList<>(commands.size());
+        for (VerificationEmailCommand command : commands) {
+            drafts.add(verificationDraft(command));
+        }
+        emailOutboxService.enqueueAll(drafts);
+        RequestTimings.record(RequestTimings.Category.MAIL, started);
+        logger.info("MAIL_QUEUED_BATCH template={} count={}", VERIFICATION_TEMPLATE, drafts.size());
+    }
+
+    @Override
+    public void sendPasswordResetEmail(PasswordResetEmailCommand command) {
+        send(new EmailOutboxService.EmailDraft(
+                authProperties.getMail().getFrom(),
+                command.recipientEmail(),
+                PASSWORD_RESET_TEMPLATE,
+                Map.of(
+                        "name", safeName(command.recipientName()),
+                        "identifier", command.identifier()
+                ),
+                secrets(command.resetLink(), command.token())
+        ));
+    }
+
+    private void send(EmailOutboxService.EmailDraft draft) {
+        // SMTP and body rendering run on the outbox workers; the request only pays for sealing + enqueue.
+        long started = System.nanoTime();
+        emailOutboxService.enqueue(draft);
+        RequestTimings.record(RequestTimings.Category.MAIL, started);
+        logger.info("MAIL_QUEUED to={} template={}", draft.to(), draft.templateName());
+    }
+
+    private EmailOutboxService.EmailDraft verificationDraft(VerificationEmailCommand command) {
+        return new EmailOutboxService.EmailDraft(
+                authProperties.getMail().getFrom(),
+                command.recipientEmail(),
+                VERIFICATION_TEMPLATE,
+                Map.of(
+                        "name", safeName(command.recipientName()),
+                        "purpose", toPurposeLabel(command.purpose()),
+                        "identifier", command.identifier()
+                ),
+                secrets(command.verificationLink(), command.token())
+        );
+    }
+
+    // The link embeds the token, so both are sealed in the outbox row.
+    private Map<String, String> secrets(String link, String token) {
+        return Map.of("link", link, "token", token);
+    }
+
+    private String toPurposeLabel(VerificationPurpose purpose) {
+        return switch (purpose) {
+            case EMAIL_VERIFICATION -> "email";
+            case PHONE_VERIFICATION -> "phone";
+            case PASSWORD_RESET -> "password";
+            case ACCOUNT_DELETION -> "account deletion";
+        };
+    }
+
+    private String safeName(String name) {
+        return (name == null || name.isBlank()) ? "there" : name;
+    }
+}
@@ -0,0 +1,88 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.model.BulkVerificationJob;
+import com.starterpack.backend.modules.auth.application.port.BulkVerificationJobStorePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisBulkVerificationJobStore implements BulkVerificationJobStorePort {
+    private static final Logger logger = LoggerFactory.getLogger(RedisBulkVerificationJobStore.class);
+    private static final Duration JOB_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redis;
+    private final AuthProperties authProperties;
+
+    public RedisBulkVerificationJobStore(StringRedisTemplate redis, AuthProperties authProperties) {
+        this.redis = redis;
+        this.authProperties = authProperties;
+    }
+
+    @Override
+    public void save(BulkVerificationJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", job.status().name());
+        fields.put("total", String.valueOf(job.total()));
+        fields.put("processed", String.valueOf(job.processed()));
+        fields.put("issued", String.valueOf(job.issued()));
+        fields.put("batches", String.valueOf(job.batches()));
+        fields.put("requestedBy", job.requestedBy() == null ? "" : job.requestedBy().toString());
+        fields.put("startedAt", job.startedAt() == null ? "" : job.startedAt().toString());
+        fields.put("finishedAt", job.finishedAt() == null ? "" : job.finishedAt().toString());
+        fields.put("error", job.error() == null ? "" : job.error());
+        String key = key(job.id());
+        try {
+            redis.opsForHash().putAll(key, fields);
+            redis.expire(key, JOB_TTL);
+        } catch (RuntimeException ex) {
+            logger.warn("BULK_VERIFY_PROGRESS_WRITE_FAILED jobId={} message={}", job.id(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<BulkVerificationJob> find(UUID jobId) {
+        Map<Object, Object> fields = redis.opsForHash().entries(key(jobId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new BulkVerificationJob(
+                jobId,
+                BulkVerificationJob.Status.valueOf(text(fields, "status")),
+                Long.parseLong(text(fields, "total")),
+                Long.parseLong(text(fields, "processed")),
+                Long.parseLong(text(fields, "issued")),
+                Integer.parseInt(text(fields, "batches")),
+                blankToNull(text(fields, "requestedBy")) == null ? null : UUID.fromString(text(fields, "requestedBy")),
+                parseTime(text(fields, "startedAt")),
+                parseTime(text(fields, "finishedAt")),
+                blankToNull(text(fields, "error"))
+        ));
+    }
+
+    private String key(UUID jobId) {
+        return authProperties.getCache().getPrefix() + ":bulk-verify:" + jobId;
+    }
+
+    private String text(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value == null ? "" : value.toString();
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private OffsetDateTime parseTime(String value) {
+        return value == null || value.isBlank() ? null : OffsetDateTime.parse(value);
+    }
+}
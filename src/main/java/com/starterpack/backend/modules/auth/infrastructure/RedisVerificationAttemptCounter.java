@@ -0,0 +1,166 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort;
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RedisVerificationAttemptCounter implements VerificationAttemptCounterPort {
+    private static final Logger logger = LoggerFactory.getLogger(RedisVerificationAttemptCounter.class);
+
+    private static final RedisScript<Long> RECORD_FAILURE = new DefaultRedisScript<>("""
+            local count = redis.call('INCR', KEYS[1])
+            if count == 1 then
+                redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return count
+            """, Long.class);
+
+    // KEYS[1] = dirty set, KEYS[i + 1] = counter of ARGV[2i - 1]; ARGV = member, persisted count, ...
+    private static final RedisScript<Long> ACKNOWLEDGE = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 1, #ARGV, 2 do
+                local current = redis.call('GET', KEYS[(i + 1) / 2 + 1])
+                if not current or current == ARGV[i + 1] then
+                    removed = removed + redis.call('SREM', KEYS[1], ARGV[i])
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final AuthProperties authProperties;
+    private final RedisMetrics redisMetrics;
+
+    public RedisVerificationAttemptCounter(StringRedisTemplate redis, AuthProperties authProperties, RedisMetrics redisMetrics) {
+        this.redis = redis;
+        this.authProperties = authProperties;
+        this.redisMetrics = redisMetrics;
+    }
+
+    @Override
+    public long attempts(String identifier, VerificationPurpose purpose, VerificationChannel channel) {
+        try {
+            String value = redis.opsForValue().get(key(member(identifier, purpose, channel)));
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-attempts", "get");
+            logger.warn("VERIFY_ATTEMPTS_READ_FAILED identifier={} message={}", identifier, ex.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public long recordFailure(String identifier, VerificationPurpose purpose, VerificationChannel channel, Duration window) {
+        String member = member(identifier, purpose, channel);
+        try {
+            Long count = redis.execute(
+                    RECORD_FAILURE,
+                    List.of(key(member), dirtyKey()),
+                    String.valueOf(Math.max(1, window.toSeconds())),
+                    member
+            );
+            return count == null ? UNAVAILABLE : count;
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-attempts", "increment");
+            logger.warn("VERIFY_ATTEMPTS_WRITE_FAILED identifier={} message={}", identifier, ex.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public void reset(Collection<String> identifiers, VerificationPurpose purpose, VerificationChannel channel) {
+        if (identifiers.isEmpty()) {
+            return;
+        }
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String identifier : identifiers) {
+                    stringConnection.del(key(member(identifier, purpose, channel)));
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-attempts", "reset");
+            logger.warn("VERIFY_ATTEMPTS_RESET_FAILED count={} message={}", identifiers.size(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public List<AttemptCount> dirty(int limit) {
+        Set<String> sampled = redis.opsForSet().distinctRandomMembers(dirtyKey(), limit);
+        if (sampled == null || sampled.isEmpty()) {
+            return List.of();
+        }
+        List<String> members = new ArrayList<>(sampled);
+        List<String> values = redis.opsForValue().multiGet(members.stream().map(this::key).toList());
+        List<AttemptCount> counts = new ArrayList<>(members.size());
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (value == null) {
+                expired.add(members.get(i));
+                continue;
+            }
+            String[] parts = members.get(i).split(":", 3);
+            counts.add(new AttemptCount(
+                    parts[2],
+                    VerificationPurpose.valueOf(parts[0]),
+                    VerificationChannel.valueOf(parts[1]),
+                    Long.parseLong(value)
+            ));
+        }
+        if (!expired.isEmpty()) {
+            // Counter window elapsed: nothing left to persist.
+            redis.opsForSet().remove(dirtyKey(), expired.toArray());
+        }
+        return counts;
+    }
+
+    @Override
+    public void acknowledge(Collection<AttemptCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(counts.size() + 1);
+        List<String> args = new ArrayList<>(counts.size() * 2);
+        keys.add(dirtyKey());
+        for (AttemptCount count : counts) {
+            String member = member(count.identifier(), count.purpose(), count.channel());
+            keys.add(key(member));
+            args.add(member);
+            args.add(String.valueOf(count.attempts()));
+        }
+        redis.execute(ACKNOWLEDGE, keys, args.toArray());
+    }
+
+    private String member(String identifier, VerificationPurpose purpose, VerificationChannel channel) {
+        return purpose.name() + ":" + channel.name() + ":" + identifier;
+    }
+
+    private String key(String member) {
+        return authProperties.getCache().getPrefix() + ":va:" + member;
+    }
+
+    private String dirtyKey() {
+        return authProperties.getCache().getPrefix() + ":va:dirty";
+    }
+}
@@ -2,6 +2,7 @@ package com.starterpack.backend.modules.auth.infrastructure;
 
 import java.time.Duration;
 
+import com.starterpack.backend.common.metrics.RedisMetrics;
 import com.starterpack.backend.modules.auth.application.port.VerificationResendThrottlePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,9 +14,11 @@ public class RedisVerificationResendThrottle implements VerificationResendThrott
     private static final Logger logger = LoggerFactory.getLogger(RedisVerificationResendThrottle.class);
 
     private final StringRedisTemplate redis;
+    private final RedisMetrics redisMetrics;
 
-    public RedisVerificationResendThrottle(StringRedisTemplate redis) {
+    public RedisVerificationResendThrottle(StringRedisTemplate redis, RedisMetrics redisMetrics) {
         this.redis = redis;
+        this.redisMetrics = redisMetrics;
     }
 
     @Override
@@ -24,6 +27,7 @@ public class RedisVerificationResendThrottle implements VerificationResendThrott
             Boolean acquired = redis.opsForValue().setIfAbsent(key, "1", cooldown);
             return Boolean.TRUE.equals(acquired);
         } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-resend", "acquire");
             logger.warn("Redis unavailable while checking resend cooldown key={}: {}", key, ex.getMessage());
             return true;
         }
@@ -0,0 +1,217 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.common.metrics.CacheMeters;
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort;
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mirrors active verification tokens so a MISS can be answered without the
+ * database, which only holds while the ready marker is set. Any failed mirror
+ * write therefore bumps the mirror epoch and drops the marker, and a warm only
+ * sets the marker again if the epoch it started from is still current. Both
+ * live in Redis, so a failure on one node also stops a warm running on another.
+ * If the epoch cannot be bumped, this node stops trusting MISS and retries the
+ * bump on its next lookup.
+ */
+@Component
+public class RedisVerificationTokenCache implements VerificationTokenCachePort {
+    private static final Logger logger = LoggerFactory.getLogger(RedisVerificationTokenCache.class);
+
+    // KEYS[1] = epoch, KEYS[2] = ready marker
+    static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2])
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    // KEYS[1] = epoch, KEYS[2] = ready marker; ARGV = epoch the warm started from, marker value
+    static final RedisScript<Long> MARK_READY = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final AuthProperties authProperties;
+    private final RedisMetrics redisMetrics;
+    private final CacheMeters meters;
+    private volatile boolean invalidationPending;
+
+    public RedisVerificationTokenCache(StringRedisTemplate redis, AuthProperties authProperties, RedisMetrics redisMetrics) {
+        this.redis = redis;
+        this.authProperties = authProperties;
+        this.redisMetrics = redisMetrics;
+        this.meters = redisMetrics.cache("verification-token");
+    }
+
+    @Override
+    public void put(TokenEntry entry) {
+        Duration ttl = ttl(entry.expiresAt());
+        if (ttl == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            redis.opsForValue().set(key(entry), entry.verificationId().toString(), ttl);
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-token", "put");
+            logger.warn("VERIFY_TOKEN_CACHE_WRITE_FAILED identifier={} message={}", entry.identifier(), ex.getMessage());
+            invalidateReady();
+        } finally {
+            meters.recordPut(started);
+        }
+    }
+
+    @Override
+    public void putAll(Collection<TokenEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (TokenEntry entry : entries) {
+                    Duration ttl = ttl(entry.expiresAt());
+                    if (ttl != null) {
+                        stringConnection.setEx(key(entry), ttl.toSeconds(), entry.verificationId().toString());
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-token", "put-all");
+            logger.warn("VERIFY_TOKEN_CACHE_WRITE_FAILED entries={} message={}", entries.size(), ex.getMessage());
+            invalidateReady();
+        }
+    }
+
+    @Override
+    public Lookup lookup(String identifier, VerificationPurpose purpose, VerificationChannel channel, String tokenHash) {
+        if (invalidationPending) {
+            invalidateReady();
+            return Lookup.UNAVAILABLE;
+        }
+        long started = System.nanoTime();
+        try {
+            List<String> values = redis.opsForValue().multiGet(List.of(
+                    readyKey(),
+                    key(identifier, purpose, channel, tokenHash)
+            ));
+            if (values == null || values.get(0) == null) {
+                return Lookup.UNAVAILABLE;
+            }
+            String verificationId = values.get(1);
+            if (verificationId == null) {
+                meters.miss();
+                return Lookup.MISS;
+            }
+            meters.hit();
+            return Lookup.hit(UUID.fromString(verificationId));
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-token", "get");
+            logger.warn("VERIFY_TOKEN_CACHE_READ_FAILED identifier={} message={}", identifier, ex.getMessage());
+            return Lookup.UNAVAILABLE;
+        } finally {
+            meters.recordGet(started);
+        }
+    }
+
+    @Override
+    public void evict(String identifier, VerificationPurpose purpose, VerificationChannel channel, String tokenHash) {
+        long started = System.nanoTime();
+        try {
+            redis.delete(key(identifier, purpose, channel, tokenHash));
+        } catch (RuntimeException ex) {
+            redisMetrics.fallback("verification-token", "evict");
+            logger.warn("VERIFY_TOKEN_CACHE_EVICT_FAILED identifier={} message={}", identifier, ex.getMessage());
+        } finally {
+            meters.recordEvict(started);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        if (invalidationPending) {
+            invalidateReady();
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redis.hasKey(readyKey()));
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public long mirrorVersion() {
+        String epoch = redis.opsForValue().get(epochKey());
+        return epoch == null ? 0 : Long.parseLong(epoch);
+    }
+
+    @Override
+    public boolean markReady(long expectedVersion) {
+        if (invalidationPending) {
+            // A write failed that the epoch does not know about yet.
+            invalidateReady();
+            return false;
+        }
+        Long marked = redis.execute(
+                MARK_READY,
+                List.of(epochKey(), readyKey()),
+                Long.toString(expectedVersion),
+                OffsetDateTime.now().toString()
+        );
+        return marked != null && marked == 1;
+    }
+
+    private void invalidateReady() {
+        try {
+            redis.execute(INVALIDATE, List.of(epochKey(), readyKey()));
+            invalidationPending = false;
+        } catch (RuntimeException ex) {
+            invalidationPending = true;
+            redisMetrics.fallback("verification-token", "invalidate-ready");
+            logger.warn("VERIFY_TOKEN_CACHE_READY_RESET_FAILED message={}", ex.getMessage());
+        }
+    }
+
+    private Duration ttl(OffsetDateTime expiresAt) {
+        Duration ttl = Duration.between(OffsetDateTime.now(), expiresAt);
+        return ttl.getSeconds() < 1 ? null : ttl;
+    }
+
+    private String key(TokenEntry entry) {
+        return key(entry.identifier(), entry.purpose(), entry.channel(), entry.tokenHash());
+    }
+
+    private String key(String identifier, VerificationPurpose purpose, VerificationChannel channel, String tokenHash) {
+        return authProperties.getCache().getPrefix() + ":vt:" + purpose.name() + ":" + channel.name() + ":" + identifier + ":" + tokenHash;
+    }
+
+    private String readyKey() {
+        return authProperties.getCache().getPrefix() + ":vt:ready";
+    }
+
+    private String epochKey() {
+        return authProperties.getCache().getPrefix() + ":vt:epoch";
+    }
+}
@@ -0,0 +1,106 @@
+package com.starterpack.backend.modules.mail.application;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.starterpack.backend.modules.mail.application.port.MailTransportPort;
+import com.starterpack.backend.modules.mail.application.port.MailTransportPort.OutgoingEmail;
+import com.starterpack.backend.modules.mail.config.MailOutboxProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EmailOutboxDispatcher implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    private final EmailOutboxStore emailOutboxStore;
+    private final MailTransportPort mailTransport;
+    private final MailOutboxProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxStore emailOutboxStore,
+            MailTransportPort mailTransport,
+            MailOutboxProperties properties
+    ) {
+        this.emailOutboxStore = emailOutboxStore;
+        this.mailTransport = mailTransport;
+        this.properties = properties;
+        int workers = Math.max(1, properties.getWorkers());
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-outbox-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public void wake() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            logger.debug("MAIL_OUTBOX_QUEUE_FULL queued={}", executor.getQueue().size());
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${mail.outbox.poll-interval:PT10S}",
+            initialDelayString = "${mail.outbox.poll-interval:PT10S}"
+    )
+    public void poll() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.getSentRetention());
+        int purged = emailOutboxStore.purgeSent(cutoff, properties.getBatchSize());
+        if (purged > 0) {
+            logger.info("MAIL_OUTBOX_PURGED deleted={} cutoff={}", purged, cutoff);
+        }
+        wake();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void drain() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        try {
+            while (true) {
+                List<OutgoingEmail> batch = emailOutboxStore.claimDue(batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                long startedAt = System.currentTimeMillis();
+                Map<UUID, String> failures = mailTransport.send(batch);
+                List<UUID> ids = batch.stream().map(OutgoingEmail::id).toList();
+                emailOutboxStore.recordResults(ids, failures);
+                logger.info("MAIL_OUTBOX_BATCH sent={} failed={} durationMs={}",
+                        batch.size() - failures.size(), failures.size(), System.currentTimeMillis() - startedAt);
+
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("MAIL_OUTBOX_DRAIN_FAILED error={}", ex.toString());
+        }
+    }
+}
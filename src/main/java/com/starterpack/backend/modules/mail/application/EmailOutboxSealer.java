@@ -0,0 +1,96 @@
+package com.starterpack.backend.modules.mail.application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterpack.backend.modules.mail.config.MailOutboxProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seals the template values that must not sit in the outbox table in
+ * plaintext (verification tokens and the links that carry them) with
+ * AES-GCM under {@code mail.outbox.secret-key}. A database dump or backup
+ * then holds no usable token; only a node with the key can render the mail.
+ */
+@Component
+public class EmailOutboxSealer {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxSealer.class);
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final TypeReference<Map<String, String>> VALUES = new TypeReference<>() {
+    };
+
+    private final SecretKey key;
+    private final ObjectMapper objectMapper;
+    private final SecureRandom random = new SecureRandom();
+
+    public EmailOutboxSealer(MailOutboxProperties properties, ObjectMapper objectMapper) {
+        this.key = resolveKey(properties.getSecretKey());
+        this.objectMapper = objectMapper;
+    }
+
+    public String seal(Map<String, String> values) {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] sealed = cipher.doFinal(objectMapper.writeValueAsBytes(values));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + sealed.length)
+                    .put(iv)
+                    .put(sealed)
+                    .array());
+        } catch (GeneralSecurityException | JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to seal mail values", ex);
+        }
+    }
+
+    /** Throws if the value was sealed under another key or has been altered. */
+    public Map<String, String> unseal(String sealed) {
+        byte[] bytes = Base64.getDecoder().decode(sealed);
+        if (bytes.length <= IV_BYTES) {
+            throw new IllegalStateException("Sealed mail values are truncated");
+        }
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, bytes, 0, IV_BYTES));
+            return objectMapper.readValue(cipher.doFinal(bytes, IV_BYTES, bytes.length - IV_BYTES), VALUES);
+        } catch (GeneralSecurityException | IOException ex) {
+            throw new IllegalStateException("Unable to unseal mail values", ex);
+        }
+    }
+
+    private static SecretKey resolveKey(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            byte[] bytes = Base64.getDecoder().decode(configured.trim());
+            if (bytes.length != 16 && bytes.length != 24 && bytes.length != 32) {
+                throw new IllegalStateException("mail.outbox.secret-key must decode to 16, 24 or 32 bytes");
+            }
+            return new SecretKeySpec(bytes, "AES");
+        }
+        logger.warn("MAIL_OUTBOX_EPHEMERAL_KEY pending mail will not survive a restart; set MAIL_OUTBOX_SECRET_KEY");
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("AES is not available", ex);
+        }
+    }
+}
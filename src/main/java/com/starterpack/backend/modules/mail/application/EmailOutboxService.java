@@ -0,0 +1,94 @@
+package com.starterpack.backend.modules.mail.application;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.starterpack.backend.modules.mail.application.template.MailTemplateEngine;
+import com.starterpack.backend.modules.mail.config.MailOutboxProperties;
+import com.starterpack.backend.modules.mail.domain.EmailOutboxMessage;
+import com.starterpack.backend.modules.mail.domain.EmailOutboxStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class EmailOutboxService {
+    private final EmailOutboxStore emailOutboxStore;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
+    private final EmailOutboxSealer emailOutboxSealer;
+    private final MailTemplateEngine mailTemplateEngine;
+    private final MailOutboxProperties properties;
+
+    public EmailOutboxService(
+            EmailOutboxStore emailOutboxStore,
+            EmailOutboxDispatcher emailOutboxDispatcher,
+            EmailOutboxSealer emailOutboxSealer,
+            MailTemplateEngine mailTemplateEngine,
+            MailOutboxProperties properties
+    ) {
+        this.emailOutboxStore = emailOutboxStore;
+        this.emailOutboxDispatcher = emailOutboxDispatcher;
+        this.emailOutboxSealer = emailOutboxSealer;
+        this.mailTemplateEngine = mailTemplateEngine;
+        this.properties = properties;
+    }
+
+    public void enqueue(EmailDraft draft) {
+        emailOutboxStore.save(toMessage(draft));
+        wakeAfterCommit();
+    }
+
+    public void enqueueAll(List<EmailDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        emailOutboxStore.saveAll(drafts.stream().map(this::toMessage).toList());
+        wakeAfterCommit();
+    }
+
+    private EmailOutboxMessage toMessage(EmailDraft draft) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setFromAddress(draft.from());
+        message.setRecipient(draft.to());
+        // Bodies are rendered at send time; the subject is rendered now, from
+        // the plain values only, so the row stays readable without the key.
+        message.setSubject(mailTemplateEngine.render(draft.templateName(), draft.values()).subject());
+        message.setTemplateName(draft.templateName());
+        message.setTemplateValues(draft.values());
+        if (!draft.secretValues().isEmpty()) {
+            message.setSealedValues(emailOutboxSealer.seal(draft.secretValues()));
+        }
+        message.setStatus(EmailOutboxStatus.PENDING);
+        message.setAttempts(0);
+        message.setMaxAttempts(Math.max(1, properties.getMaxAttempts()));
+        message.setNextAttemptAt(OffsetDateTime.now());
+        return message;
+    }
+
+    private void wakeAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailOutboxDispatcher.wake();
+                }
+            });
+        } else {
+            emailOutboxDispatcher.wake();
+        }
+    }
+
+    /**
+     * @param values       stored as-is
+     * @param secretValues tokens and anything carrying one; stored sealed, see {@link EmailOutboxSealer}
+     */
+    public record EmailDraft(
+            String from,
+            String to,
+            String templateName,
+            Map<String, String> values,
+            Map<String, String> secretValues
+    ) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.starterpack.backend.modules.mail.application;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.starterpack.backend.modules.mail.application.port.MailTransportPort.OutgoingEmail;
+import com.starterpack.backend.modules.mail.application.template.MailTemplateEngine;
+import com.starterpack.backend.modules.mail.application.template.RenderedEmail;
+import com.starterpack.backend.modules.mail.config.MailOutboxProperties;
+import com.starterpack.backend.modules.mail.domain.EmailOutboxMessage;
+import com.starterpack.backend.modules.mail.domain.EmailOutboxStatus;
+import com.starterpack.backend.modules.mail.infrastructure.EmailOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class EmailOutboxStore {
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxStore.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailOutboxSealer emailOutboxSealer;
+    private final MailTemplateEngine mailTemplateEngine;
+    private final MailOutboxProperties properties;
+
+    public EmailOutboxStore(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailOutboxSealer emailOutboxSealer,
+            MailTemplateEngine mailTemplateEngine,
+            MailOutboxProperties properties
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailOutboxSealer = emailOutboxSealer;
+        this.mailTemplateEngine = mailTemplateEngine;
+        this.properties = properties;
+    }
+
+    @Transactional
+    public EmailOutboxMessage save(EmailOutboxMessage message) {
+        return emailOutboxRepository.save(message);
+    }
+
+    @Transactional
+    public List<EmailOutboxMessage> saveAll(List<EmailOutboxMessage> messages) {
+        return emailOutboxRepository.saveAll(messages);
+    }
+
+    @Transactional
+    public List<OutgoingEmail> claimDue(int batchSize) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<UUID> ids = emailOutboxRepository.lockDueIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        emailOutboxRepository.lease(ids, now.plus(properties.getLease()));
+        List<OutgoingEmail> batch = new ArrayList<>(ids.size());
+        for (EmailOutboxMessage message : emailOutboxRepository.findAllById(ids)) {
+            try {
+                batch.add(toOutgoing(message));
+            } catch (RuntimeException ex) {
+                // Retrying cannot help: the values were sealed under another key or are corrupt.
+                message.setStatus(EmailOutboxStatus.FAILED);
+                message.setLastError(truncate(ex.getMessage()));
+                scrub(message);
+                logger.warn("MAIL_RENDER_FAILED id={} to={} template={} error={}",
+                        message.getId(), message.getRecipient(), message.getTemplateName(), ex.getMessage());
+            }
+        }
+        return batch;
+    }
+
+    private OutgoingEmail toOutgoing(EmailOutboxMessage message) {
+        if (message.getTemplateName() == null) {
+            // Written before templates were stored: delivered from its rendered bodies.
+            return new OutgoingEmail(
+                    message.getId(),
+                    message.getFromAddress(),
+                    message.getRecipient(),
+                    message.getSubject(),
+                    message.getTextBody(),
+                    message.getHtmlBody()
+            );
+        }
+        Map<String, String> values = new HashMap<>();
+        if (message.getTemplateValues() != null) {
+            values.putAll(message.getTemplateValues());
+        }
+        if (message.getSealedValues() != null) {
+            values.putAll(emailOutboxSealer.unseal(message.getSealedValues()));
+        }
+        RenderedEmail email = mailTemplateEngine.render(message.getTemplateName(), values);
+        return new OutgoingEmail(
+                message.getId(),
+                message.getFromAddress(),
+                message.getRecipient(),
+                email.subject(),
+                email.textBody(),
+                email.htmlBody()
+        );
+    }
+
+    @Transactional
+    public void recordResults(Collection<UUID> claimedIds, Map<UUID, String> failures) {
+        OffsetDateTime now = OffsetDateTime.now();
+        for (EmailOutboxMessage message : emailOutboxRepository.findAllById(claimedIds)) {
+            String error = failures.get(message.getId());
+            if (error == null) {
+                message.setStatus(EmailOutboxStatus.SENT);
+                message.setSentAt(now);
+                message.setLastError(null);
+                scrub(message);
+                continue;
+            }
+
+            message.setLastError(truncate(error));
+            if (message.getAttempts() >= message.getMaxAttempts()) {
+                message.setStatus(EmailOutboxStatus.FAILED);
+                scrub(message);
+                logger.warn("MAIL_DELIVERY_ABANDONED id={} to={} attempts={} error={}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), error);
+            } else {
+                message.setNextAttemptAt(now.plus(backoff(message.getAttempts())));
+                logger.warn("MAIL_SEND_FAILED id={} to={} attempt={} nextAttemptAt={} error={}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), message.getNextAttemptAt(), error);
+            }
+        }
+    }
+
+    @Transactional
+    public int purgeSent(OffsetDateTime cutoff, int batchSize) {
+        return emailOutboxRepository.deleteSentBefore(cutoff, batchSize);
+    }
+
+    /** Drops everything a token could be read from once the row can no longer be sent. */
+    private static void scrub(EmailOutboxMessage message) {
+        message.setTextBody(null);
+        message.setHtmlBody(null);
+        message.setTemplateValues(null);
+        message.setSealedValues(null);
+    }
+
+    private Duration backoff(int attempts) {
+        long initialMillis = properties.getInitialBackoff().toMillis();
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(maxMillis, initialMillis << exponent);
+        long jitter = delay / 5;
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        }
+        return Duration.ofMillis(Math.max(delay, 0));
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,19 @@
+package com.starterpack.backend.modules.mail.application.port;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface MailTransportPort {
+    Map<UUID, String> send(List<OutgoingEmail> emails);
+
+    record OutgoingEmail(
+            UUID id,
+            String from,
+            String to,
+            String subject,
+            String textBody,
+            String htmlBody
+    ) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.starterpack.backend.modules.mail.application.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final String[] literals;
+    private final String[] variables;
+    private final int estimatedLength;
+
+    private CompiledTemplate(String name, String[] literals, String[] variables) {
+        this.name = name;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.estimatedLength = length + variables.length * 32;
+    }
+
+    public static CompiledTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalStateException("Unclosed placeholder in mail template " + name + " at offset " + open);
+            }
+            String variable = source.substring(open + OPEN.length(), close).trim();
+            if (variable.isEmpty()) {
+                throw new IllegalStateException("Empty placeholder in mail template " + name + " at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(variable);
+            position = close + CLOSE.length();
+        }
+        return new CompiledTemplate(name, literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int estimatedLength() {
+        return estimatedLength;
+    }
+
+    public void renderTo(StringBuilder out, Map<String, String> values, boolean escapeHtml) {
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(variables[i]);
+            if (value == null) {
+                continue;
+            }
+            if (escapeHtml) {
+                appendEscaped(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[variables.length]);
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
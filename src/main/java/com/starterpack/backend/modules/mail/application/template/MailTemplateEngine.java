@@ -0,0 +1,94 @@
+package com.starterpack.backend.modules.mail.application.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MailTemplateEngine {
+    private static final Logger logger = LoggerFactory.getLogger(MailTemplateEngine.class);
+    private static final String LOCATION = "classpath:mail-templates/*.*";
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(2048));
+
+    private final Map<String, TemplateSet> templates;
+
+    public MailTemplateEngine() {
+        this.templates = load();
+        logger.info("MAIL_TEMPLATES_COMPILED templates={}", templates.keySet());
+    }
+
+    public RenderedEmail render(String templateName, Map<String, String> values) {
+        TemplateSet set = templates.get(templateName);
+        if (set == null) {
+            throw new IllegalArgumentException("Unknown mail template: " + templateName);
+        }
+        return new RenderedEmail(
+                render(set.subject(), values, false),
+                render(set.text(), values, false),
+                set.html() == null ? null : render(set.html(), values, true)
+        );
+    }
+
+    private String render(CompiledTemplate template, Map<String, String> values, boolean escapeHtml) {
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.estimatedLength());
+        try {
+            template.renderTo(buffer, values, escapeHtml);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+                BUFFERS.remove();
+            } else {
+                buffer.setLength(0);
+            }
+        }
+    }
+
+    private Map<String, TemplateSet> load() {
+        Map<String, Map<String, CompiledTemplate>> parts = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                int dot = filename.lastIndexOf('.');
+                String name = filename.substring(0, dot);
+                String kind = filename.substring(dot + 1);
+                String source = resource.getContentAsString(StandardCharsets.UTF_8);
+                if (!"html".equals(kind)) {
+                    source = source.strip();
+                }
+                parts.computeIfAbsent(name, key -> new HashMap<>())
+                        .put(kind, CompiledTemplate.compile(filename, source));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to load mail templates", ex);
+        }
+
+        Map<String, TemplateSet> loaded = new HashMap<>();
+        parts.forEach((name, kinds) -> {
+            CompiledTemplate subject = kinds.get("subject");
+            CompiledTemplate text = kinds.get("txt");
+            if (subject == null || text == null) {
+                throw new IllegalStateException("Mail template " + name + " needs both .subject and .txt files");
+            }
+            loaded.put(name, new TemplateSet(subject, text, kinds.get("html")));
+        });
+        return Map.copyOf(loaded);
+    }
+
+    private record TemplateSet(CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+    }
+}
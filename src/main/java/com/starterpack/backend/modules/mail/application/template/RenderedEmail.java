@@ -0,0 +1,8 @@
+package com.starterpack.backend.modules.mail.application.template;
+
+public record RenderedEmail(
+        String subject,
+        String textBody,
+        String htmlBody
+) {
+}
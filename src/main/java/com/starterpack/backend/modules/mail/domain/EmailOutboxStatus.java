@@ -0,0 +1,7 @@
+package com.starterpack.backend.modules.mail.domain;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
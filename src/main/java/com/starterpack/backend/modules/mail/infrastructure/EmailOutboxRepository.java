@@ -0,0 +1,50 @@
+package com.starterpack.backend.modules.mail.infrastructure;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.mail.domain.EmailOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+    @Query(value = """
+            SELECT id
+            FROM email_outbox
+            WHERE status = 'PENDING'
+              AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UUID> lockDueIds(@Param("now") OffsetDateTime now, @Param("batchSize") int batchSize);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE EmailOutboxMessage m
+            SET m.attempts = m.attempts + 1,
+                m.nextAttemptAt = :leaseUntil
+            WHERE m.id IN :ids
+            """)
+    int lease(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") OffsetDateTime leaseUntil);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM email_outbox
+            WHERE id IN (
+                SELECT id
+                FROM email_outbox
+                WHERE status = 'SENT'
+                  AND sent_at < :cutoff
+                ORDER BY sent_at
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteSentBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,83 @@
+package com.starterpack.backend.modules.mail.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.mail.application.port.MailTransportPort;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SmtpMailTransport implements MailTransportPort {
+    private final JavaMailSender mailSender;
+
+    public SmtpMailTransport(JavaMailSender mailSender) {
+        this.mailSender = mailSender;
+    }
+
+    @Override
+    public Map<UUID, String> send(List<OutgoingEmail> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Object, UUID> idsByMessage = new IdentityHashMap<>();
+        Map<UUID, String> failures = new LinkedHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        for (OutgoingEmail email : emails) {
+            try {
+                MimeMessage message = toMimeMessage(email);
+                messages.add(message);
+                idsByMessage.put(message, email.id());
+            } catch (MessagingException ex) {
+                failures.put(email.id(), ex.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException ex) {
+            int before = failures.size();
+            ex.getFailedMessages().forEach((message, error) -> {
+                UUID id = idsByMessage.get(message);
+                if (id != null) {
+                    failures.put(id, error.getMessage());
+                }
+            });
+            if (failures.size() == before) {
+                idsByMessage.values().forEach(id -> failures.put(id, ex.getMessage()));
+            }
+        } catch (MailException ex) {
+            idsByMessage.values().forEach(id -> failures.put(id, ex.getMessage()));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(OutgoingEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        boolean multipart = email.htmlBody() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(message, multipart, StandardCharsets.UTF_8.name());
+        helper.setFrom(email.from());
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        if (multipart) {
+            helper.setText(email.textBody() == null ? "" : email.textBody(), email.htmlBody());
+        } else {
+            helper.setText(email.textBody() == null ? "" : email.textBody());
+        }
+        return message;
+    }
+}
@@ -180,7 +180,7 @@ public class MobileAuthController {
     @GetMapping("/me")
     public UserResponse me(Authentication authentication) {
         User user = currentUser(authentication);
-        return UserResponse.from(authService.getCurrentUser(user.getId()));
+        return authService.getCurrentUser(user.getId());
     }
 
     @Operation(summary = "Update current profile", description = "Updates the authenticated user's profile fields.")
@@ -0,0 +1,207 @@
+package com.starterpack.backend.modules.upload.api;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+import com.starterpack.backend.config.UploadProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Serves stored media under the public base URL. Bodies of at least
+ * {@code upload.serving.sendfile-min-bytes} are handed to Tomcat's sendfile,
+ * so the kernel copies them straight from the page cache to the socket; smaller
+ * bodies, or connectors without sendfile, go through {@link FileChannel#transferTo}.
+ * Either way the file is never buffered whole on the heap.
+ *
+ * <p>Supports single byte ranges, If-Range, and ETag/Last-Modified validation.
+ * Stored names are random and never reused, so the validators only change if a
+ * file is replaced on disk.
+ */
+@RestController
+@Tag(name = "Uploads", description = "Media upload, listing, and file lifecycle management")
+public class MediaFileController {
+    // Tomcat request attributes (org.apache.catalina.Globals); other containers ignore them.
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final UploadProperties uploadProperties;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public MediaFileController(UploadProperties uploadProperties) {
+        this.uploadProperties = uploadProperties;
+    }
+
+    @Operation(summary = "Download file", description = "Streams a stored file. Supports Range and conditional requests.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "File content", content = @Content),
+            @ApiResponse(responseCode = "206", description = "Partial content", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Not modified", content = @Content),
+            @ApiResponse(responseCode = "404", description = "File not found", content = @Content),
+            @ApiResponse(responseCode = "416", description = "Range not satisfiable", content = @Content)
+    })
+    @RequestMapping(
+            value = "${upload.local.public-base-url:/files}/**",
+            method = {RequestMethod.GET, RequestMethod.HEAD}
+    )
+    public void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolveFile(request);
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, uploadProperties.getServing().getCacheControl());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        long start = 0;
+        long count = length;
+        HttpRange range = requestedRange(request, etag, lastModified);
+        if (range != null) {
+            start = rangeStart(range, length);
+            if (start < 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            long end = range.getRangeEnd(length);
+            count = end - start + 1;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentLengthLong(count);
+
+        if (count == 0 || RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+        if (count >= uploadProperties.getServing().getSendfileMinBytes()
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + count);
+            return;
+        }
+        transfer(file, start, count, response);
+    }
+
+    private Path resolveFile(HttpServletRequest request) {
+        String publicBaseUrl = uploadProperties.getLocal().getPublicBaseUrl();
+        if (!publicBaseUrl.startsWith("/")) {
+            publicBaseUrl = "/" + publicBaseUrl;
+        }
+        String requestPath = urlPathHelper.getPathWithinApplication(request);
+        if (!requestPath.startsWith(publicBaseUrl + "/")) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+        }
+
+        Path file;
+        try {
+            Path baseDir = Paths.get(uploadProperties.getLocal().getBaseDir()).toRealPath();
+            file = baseDir.resolve(requestPath.substring(publicBaseUrl.length() + 1)).normalize().toRealPath();
+            if (!file.startsWith(baseDir)) {
+                file = null;
+            }
+        } catch (IOException | InvalidPathException ex) {
+            file = null;
+        }
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
+        }
+        return file;
+    }
+
+    /**
+     * Returns the single range to serve, or null to serve the whole file.
+     * Multiple ranges and malformed headers are answered with the full body,
+     * which RFC 9110 allows; so is a stale If-Range.
+     */
+    static HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRangeMatches(request, ifRange, etag, lastModified)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    static boolean ifRangeMatches(HttpServletRequest request, String ifRange, String etag, long lastModified) {
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return value.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /** Returns the first byte to serve, or -1 when the range lies outside the file. */
+    static long rangeStart(HttpRange range, long length) {
+        if (length == 0) {
+            return -1;
+        }
+        long start = range.getRangeStart(length);
+        return start < length ? start : -1;
+    }
+
+    private static void transfer(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    // File shrank after Content-Length was set; the client sees a short body.
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -69,7 +69,7 @@ public class UploadController {
 
         UUID userId = currentUserId(authentication);
         UploadResponse response = uploadService.uploadOne(resolvedFile, userId, folder);
-        UploadResultDto payload = toUploadResult(response);
+        UploadResultDto payload = UploadResultDto.from(response);
         URI location = URI.create("/api/uploads/" + response.id());
         return ResponseEntity.created(location).body(new ResponseDto<>("File uploaded successfully", payload));
     }
@@ -97,7 +97,7 @@ public class UploadController {
 
         UUID userId = currentUserId(authentication);
         List<UploadResponse> responses = uploadService.uploadMany(List.of(files), userId, folder);
-        List<UploadResultDto> payload = responses.stream().map(this::toUploadResult).toList();
+        List<UploadResultDto> payload = responses.stream().map(UploadResultDto::from).toList();
         URI location = responses.isEmpty() ? URI.create("/api/uploads") : URI.create("/api/uploads/" + responses.get(0).id());
         return ResponseEntity.created(location).body(new ResponseDto<>("Files uploaded successfully", payload));
     }
@@ -182,18 +182,6 @@ public class UploadController {
         }
     }
 
-    private UploadResultDto toUploadResult(UploadResponse response) {
-        String relativePath = extractRelativePath(response.url());
-        String filename = extractFilename(response.url());
-        return new UploadResultDto(
-                filename,
-                response.originalFilename(),
-                response.sizeBytes(),
-                response.contentType(),
-                relativePath
-        );
-    }
-
     private MultipartFile resolveSingleFile(MultipartFile file, MultipartFile[] files) {
         if (file != null && !file.isEmpty()) {
             return file;
@@ -212,26 +200,4 @@ public class UploadController {
                 "Required multipart file is missing. Use key 'file' for /api/uploads or key 'files' for /api/uploads/multiple."
         );
     }
-
-    private String extractRelativePath(String url) {
-        if (url == null || url.isBlank()) {
-            return "";
-        }
-        String normalized = url.startsWith("/") ? url.substring(1) : url;
-        if (normalized.startsWith("files/")) {
-            return normalized.substring("files/".length());
-        }
-        return normalized;
-    }
-
-    private String extractFilename(String url) {
-        if (url == null || url.isBlank()) {
-            return "";
-        }
-        int idx = url.lastIndexOf('/');
-        if (idx < 0 || idx == url.length() - 1) {
-            return url;
-        }
-        return url.substring(idx + 1);
-    }
 }
@@ -0,0 +1,164 @@
+package com.starterpack.backend.modules.upload.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+import com.starterpack.backend.common.web.ResponseDto;
+import com.starterpack.backend.modules.upload.api.dto.InitiateUploadRequest;
+import com.starterpack.backend.modules.upload.api.dto.UploadResponse;
+import com.starterpack.backend.modules.upload.api.dto.UploadResultDto;
+import com.starterpack.backend.modules.upload.api.dto.UploadSessionResponse;
+import com.starterpack.backend.modules.upload.application.ChunkedUploadService;
+import com.starterpack.backend.modules.users.domain.User;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/uploads/sessions")
+@Tag(name = "Uploads", description = "Media upload, listing, and file lifecycle management")
+@Validated
+public class UploadSessionController {
+    static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+    static final String CHUNK_SHA256_HEADER = "X-Chunk-Sha256";
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    public UploadSessionController(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+
+    @Operation(summary = "Start resumable upload",
+            description = "Creates an upload session. Send the file with PUT chunks, then complete it.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Session created",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UploadSessionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid file metadata", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Missing permission", content = @Content)
+    })
+    @PostMapping
+    @PreAuthorize("hasAuthority('uploads:create')")
+    public ResponseEntity<UploadSessionResponse> initiate(
+            @Valid @RequestBody InitiateUploadRequest request,
+            Authentication authentication
+    ) {
+        UploadSessionResponse response = chunkedUploadService.initiate(request, currentUserId(authentication));
+        return ResponseEntity.created(URI.create("/api/uploads/sessions/" + response.id()))
+                .header(UPLOAD_OFFSET_HEADER, Long.toString(response.offset()))
+                .body(response);
+    }
+
+    @Operation(summary = "Get resumable upload", description = "Returns the committed offset to resume from.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Session found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UploadSessionResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Session not found or expired", content = @Content)
+    })
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAuthority('uploads:create')")
+    public ResponseEntity<UploadSessionResponse> status(@PathVariable UUID id, Authentication authentication) {
+        UploadSessionResponse response = chunkedUploadService.status(id, currentUserId(authentication));
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, Long.toString(response.offset()))
+                .body(response);
+    }
+
+    @Operation(summary = "Upload chunk",
+            description = "Appends the raw request body at Upload-Offset, which must equal the committed offset.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Chunk stored",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UploadSessionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty, oversized or corrupt chunk", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Session not found or expired", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Offset mismatch or concurrent chunk", content = @Content)
+    })
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('uploads:create')")
+    public ResponseEntity<UploadSessionResponse> appendChunk(
+            @PathVariable UUID id,
+            @Parameter(description = "Byte offset this chunk starts at", example = "0")
+            @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+            @Parameter(description = "Optional lowercase hex SHA-256 of this chunk")
+            @RequestHeader(value = CHUNK_SHA256_HEADER, required = false) String chunkSha256,
+            HttpServletRequest request,
+            Authentication authentication
+    ) {
+        if (chunkSha256 != null && !chunkSha256.matches("^[0-9a-fA-F]{64}$")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, CHUNK_SHA256_HEADER + " must be 64 hex characters");
+        }
+        UploadSessionResponse response;
+        try (InputStream body = request.getInputStream()) {
+            response = chunkedUploadService.appendChunk(id, currentUserId(authentication), offset, chunkSha256, body);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Chunk upload interrupted");
+        }
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET_HEADER, Long.toString(response.offset()))
+                .body(response);
+    }
+
+    @Operation(summary = "Complete resumable upload",
+            description = "Verifies the file and moves it into media storage once every byte is received.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Uploaded",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "File checksum mismatch", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Session not found or expired", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Upload incomplete", content = @Content)
+    })
+    @PostMapping("/{id}/complete")
+    @PreAuthorize("hasAuthority('uploads:create')")
+    public ResponseEntity<ResponseDto<UploadResultDto>> complete(@PathVariable UUID id, Authentication authentication) {
+        UploadResponse response = chunkedUploadService.complete(id, currentUserId(authentication));
+        URI location = URI.create("/api/uploads/" + response.id());
+        return ResponseEntity.created(location)
+                .body(new ResponseDto<>("File uploaded successfully", UploadResultDto.from(response)));
+    }
+
+    @Operation(summary = "Abort resumable upload", description = "Deletes the session and any bytes received so far.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Session deleted", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Session not found or expired", content = @Content)
+    })
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority('uploads:create')")
+    public ResponseEntity<Void> abort(@PathVariable UUID id, Authentication authentication) {
+        chunkedUploadService.abort(id, currentUserId(authentication));
+        return ResponseEntity.noContent().build();
+    }
+
+    private UUID currentUserId(Authentication authentication) {
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
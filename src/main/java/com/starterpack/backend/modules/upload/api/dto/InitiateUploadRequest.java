@@ -0,0 +1,34 @@
+package com.starterpack.backend.modules.upload.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Starts a resumable upload")
+public record InitiateUploadRequest(
+        @Schema(example = "holiday.mp4")
+        @NotBlank
+        @Size(max = 255)
+        String filename,
+
+        @Schema(example = "video/mp4")
+        @NotBlank
+        @Size(max = 255)
+        String contentType,
+
+        @Schema(example = "734003200", description = "Total file size in bytes")
+        @Positive
+        long sizeBytes,
+
+        @Schema(example = "videos", description = "Optional target folder")
+        @Size(max = 255)
+        String folder,
+
+        @Schema(example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
+                description = "Optional hex SHA-256 of the whole file, verified on completion")
+        @Pattern(regexp = "[0-9a-fA-F]{64}")
+        String sha256
+) {
+}
@@ -15,4 +15,35 @@ public record UploadResultDto(
         @Schema(example = "2adde33e-d222-43d6-8444-4e1eb85b6dcd.png")
         String relativePath
 ) {
+    public static UploadResultDto from(UploadResponse response) {
+        return new UploadResultDto(
+                extractFilename(response.url()),
+                response.originalFilename(),
+                response.sizeBytes(),
+                response.contentType(),
+                extractRelativePath(response.url())
+        );
+    }
+
+    private static String extractRelativePath(String url) {
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+        String normalized = url.startsWith("/") ? url.substring(1) : url;
+        if (normalized.startsWith("files/")) {
+            return normalized.substring("files/".length());
+        }
+        return normalized;
+    }
+
+    private static String extractFilename(String url) {
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+        int idx = url.lastIndexOf('/');
+        if (idx < 0 || idx == url.length() - 1) {
+            return url;
+        }
+        return url.substring(idx + 1);
+    }
 }
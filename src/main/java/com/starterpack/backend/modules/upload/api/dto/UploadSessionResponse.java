@@ -0,0 +1,36 @@
+package com.starterpack.backend.modules.upload.api.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.upload.domain.UploadSession;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resumable upload progress")
+public record UploadSessionResponse(
+        @Schema(example = "0b6c1f3e-3f51-4a8e-9d55-5a3d1f0c2b7e")
+        UUID id,
+        @Schema(example = "holiday.mp4")
+        String originalFilename,
+        @Schema(example = "video/mp4")
+        String contentType,
+        @Schema(example = "734003200")
+        long sizeBytes,
+        @Schema(example = "16777216", description = "Bytes received so far; the offset of the next chunk")
+        long offset,
+        @Schema(example = "8388608", description = "Largest chunk the server accepts")
+        long maxChunkBytes,
+        OffsetDateTime expiresAt
+) {
+    public static UploadSessionResponse from(UploadSession session, long maxChunkBytes) {
+        return new UploadSessionResponse(
+                session.getId(),
+                session.getOriginalFilename(),
+                session.getContentType(),
+                session.getSizeBytes(),
+                session.getReceivedBytes(),
+                maxChunkBytes,
+                session.getExpiresAt()
+        );
+    }
+}
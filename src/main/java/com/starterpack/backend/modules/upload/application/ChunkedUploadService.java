@@ -0,0 +1,428 @@
+package com.starterpack.backend.modules.upload.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import com.starterpack.backend.common.error.AppException;
+import com.starterpack.backend.common.persistence.ReadReplica;
+import com.starterpack.backend.config.UploadProperties;
+import com.starterpack.backend.modules.upload.api.dto.InitiateUploadRequest;
+import com.starterpack.backend.modules.upload.api.dto.UploadResponse;
+import com.starterpack.backend.modules.upload.api.dto.UploadSessionResponse;
+import com.starterpack.backend.modules.upload.domain.UploadSession;
+import com.starterpack.backend.modules.upload.infrastructure.MediaStorage;
+import com.starterpack.backend.modules.upload.infrastructure.UploadSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Resumable uploads: initiate, append chunks at the current offset, complete.
+ * Chunks stream from the request straight into a staging file through a
+ * fixed-size buffer, so heap use does not grow with file size. The committed
+ * offset lives in {@code upload_sessions}; the staging file is truncated back
+ * to it before every write, which discards bytes from an interrupted chunk.
+ *
+ * <p>No database connection is held while a chunk streams in: session reads
+ * and the offset update are separate short transactions, and concurrent
+ * writers on one session are kept apart by a lock on the staging file.
+ * Completion keeps that lock until the media row has committed.
+ */
+@Service
+public class ChunkedUploadService {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+    private static final int COPY_BUFFER_BYTES = 64 * 1024;
+    private static final String STAGING_SUFFIX = ".part";
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UploadService uploadService;
+    private final MediaStorage mediaStorage;
+    private final UploadProperties uploadProperties;
+    private final TransactionTemplate transaction;
+
+    public ChunkedUploadService(
+            UploadSessionRepository uploadSessionRepository,
+            UploadService uploadService,
+            MediaStorage mediaStorage,
+            UploadProperties uploadProperties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.uploadService = uploadService;
+        this.mediaStorage = mediaStorage;
+        this.uploadProperties = uploadProperties;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public UploadSessionResponse initiate(InitiateUploadRequest request, UUID ownerId) {
+        UploadProperties.Chunked chunked = uploadProperties.getChunked();
+        if (request.sizeBytes() > chunked.getMaxFileSizeBytes()) {
+            throw AppException.badRequest("file exceeds max allowed size");
+        }
+        uploadService.validateContentType(request.contentType());
+        String folder = mediaStorage.normalizeFolder(request.folder());
+
+        Path stagingDir = Paths.get(chunked.getStagingDir()).toAbsolutePath().normalize();
+        Path staging = stagingDir.resolve(UUID.randomUUID() + STAGING_SUFFIX);
+        try {
+            Files.createDirectories(stagingDir);
+            Files.createFile(staging);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to prepare upload");
+        }
+
+        UploadSession session = new UploadSession();
+        session.setOwnerId(ownerId);
+        session.setOriginalFilename(uploadService.safeOriginalName(request.filename()));
+        session.setContentType(request.contentType().trim());
+        session.setFolder(folder);
+        session.setSizeBytes(request.sizeBytes());
+        session.setReceivedBytes(0);
+        session.setSha256(request.sha256() == null ? null : request.sha256().toLowerCase());
+        session.setStagingPath(staging.toString());
+        session.setExpiresAt(OffsetDateTime.now().plus(chunked.getSessionTtl()));
+        try {
+            return toResponse(uploadSessionRepository.save(session));
+        } catch (RuntimeException ex) {
+            deleteQuietly(staging);
+            throw ex;
+        }
+    }
+
+    public UploadSessionResponse status(UUID id, UUID ownerId) {
+        return toResponse(requireActive(id, ownerId));
+    }
+
+    public UploadSessionResponse appendChunk(UUID id, UUID ownerId, long offset, String chunkSha256, InputStream body) {
+        Path staging = Path.of(requireActive(id, ownerId).getStagingPath());
+        try (FileChannel channel = FileChannel.open(staging, StandardOpenOption.WRITE)) {
+            FileLock lock = lockOrConflict(channel);
+            try {
+                return appendLocked(channel, id, ownerId, offset, chunkSha256, body);
+            } finally {
+                lock.release();
+            }
+        } catch (NoSuchFileException ex) {
+            throw AppException.notFound("Upload session not found");
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to write upload chunk");
+        }
+    }
+
+    /**
+     * Runs with the staging file locked from the offset check until the new
+     * offset is committed, so a concurrent append cannot write between them.
+     */
+    private UploadSessionResponse appendLocked(
+            FileChannel channel,
+            UUID id,
+            UUID ownerId,
+            long offset,
+            String chunkSha256,
+            InputStream body
+    ) throws IOException {
+        // Re-read under the lock; an offset read before it may already be stale.
+        UploadSession session = requireActive(id, ownerId);
+        if (offset != session.getReceivedBytes()) {
+            throw AppException.conflict("Upload offset is " + session.getReceivedBytes() + ", not " + offset);
+        }
+        long limit = Math.min(uploadProperties.getChunked().getMaxChunkBytes(), session.getSizeBytes() - offset);
+        if (limit <= 0) {
+            throw AppException.conflict("All bytes received; complete the upload");
+        }
+
+        MessageDigest digest = chunkSha256 == null ? null : newSha256();
+        long written = writeChunk(channel, offset, limit, body, digest, chunkSha256);
+        OffsetDateTime expiresAt = OffsetDateTime.now().plus(uploadProperties.getChunked().getSessionTtl());
+        Integer advanced;
+        try {
+            advanced = transaction.execute(status -> uploadSessionRepository.advance(id, offset, offset + written, expiresAt));
+        } catch (RuntimeException ex) {
+            channel.truncate(offset);
+            throw ex;
+        }
+        if (advanced == null || advanced == 0) {
+            channel.truncate(offset);
+            throw AppException.conflict("Upload offset changed concurrently");
+        }
+        session.setReceivedBytes(offset + written);
+        session.setExpiresAt(expiresAt);
+        return toResponse(session);
+    }
+
+    public UploadResponse complete(UUID id, UUID ownerId) {
+        UploadSession session = requireActive(id, ownerId);
+        if (session.getReceivedBytes() != session.getSizeBytes()) {
+            throw AppException.conflict("Upload incomplete: " + session.getReceivedBytes() + " of "
+                    + session.getSizeBytes() + " bytes received");
+        }
+
+        Path staging = Path.of(session.getStagingPath());
+        try (FileChannel channel = FileChannel.open(staging, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = lockOrConflict(channel);
+            try {
+                if (session.getSha256() != null && !session.getSha256().equals(sha256Hex(channel))) {
+                    discard(session);
+                    throw AppException.badRequest("File checksum mismatch; upload discarded");
+                }
+                return storeAndRecord(session, staging, ownerId);
+            } finally {
+                lock.release();
+            }
+        } catch (NoSuchFileException ex) {
+            throw AppException.notFound("Upload session not found");
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to read staged upload");
+        }
+    }
+
+    /**
+     * Moves the staged file into storage, then swaps the session row for a
+     * media row. If that transaction fails the file is moved back, so the
+     * session still has its bytes and the client can retry completion.
+     */
+    private UploadResponse storeAndRecord(UploadSession session, Path staging, UUID ownerId) {
+        MediaStorage.StoredMedia stored = mediaStorage.store(
+                staging,
+                session.getOriginalFilename(),
+                session.getContentType(),
+                session.getFolder()
+        );
+        try {
+            return transaction.execute(status -> {
+                uploadSessionRepository.deleteById(session.getId());
+                return uploadService.saveMedia(stored, session.getOriginalFilename(), ownerId);
+            });
+        } catch (RuntimeException ex) {
+            try {
+                mediaStorage.restore(stored, staging);
+            } catch (RuntimeException restoreEx) {
+                logger.error(
+                        "UPLOAD_COMPLETE_RESTORE_FAILED sessionId={} storagePath={} stagingPath={} message={}",
+                        session.getId(),
+                        stored.storagePath(),
+                        staging,
+                        restoreEx.getMessage()
+                );
+            }
+            throw ex;
+        }
+    }
+
+    public void abort(UUID id, UUID ownerId) {
+        discard(requireActive(id, ownerId));
+    }
+
+    public int expireAbandoned() {
+        int batchSize = Math.max(1, uploadProperties.getChunked().getCleanupBatchSize());
+        OffsetDateTime now = OffsetDateTime.now();
+        int total = 0;
+        while (true) {
+            List<UploadSession> expired = ReadReplica.primaryOnly(() ->
+                    uploadSessionRepository.findByExpiresAtBefore(now, PageRequest.of(0, batchSize)));
+            expired.forEach(this::discard);
+            total += expired.size();
+            if (expired.size() < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Deletes staging files that no session row points at, e.g. after the
+     * owner's account was deleted and its sessions went with it through the
+     * foreign key. Files younger than the session TTL are left alone so an
+     * upload that is still being initiated is never swept.
+     */
+    public int sweepOrphanedStaging() {
+        UploadProperties.Chunked chunked = uploadProperties.getChunked();
+        Path stagingDir = Paths.get(chunked.getStagingDir()).toAbsolutePath().normalize();
+        int batchSize = Math.max(1, chunked.getCleanupBatchSize());
+        FileTime cutoff = FileTime.from(Instant.now().minus(chunked.getSessionTtl()));
+        List<Path> candidates = new ArrayList<>(batchSize);
+        int total = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir, "*" + STAGING_SUFFIX)) {
+            for (Path file : files) {
+                if (isOlderThan(file, cutoff)) {
+                    candidates.add(file);
+                }
+                if (candidates.size() == batchSize) {
+                    total += deleteOrphans(candidates);
+                    candidates.clear();
+                }
+            }
+        } catch (NoSuchFileException ex) {
+            return total;
+        } catch (IOException ex) {
+            logger.warn("UPLOAD_STAGING_SWEEP_FAILED dir={} message={}", stagingDir, ex.getMessage());
+        }
+        return total + deleteOrphans(candidates);
+    }
+
+    private int deleteOrphans(List<Path> candidates) {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        List<String> paths = candidates.stream().map(Path::toString).toList();
+        Set<String> live = new HashSet<>(ReadReplica.primaryOnly(() -> uploadSessionRepository.findStagingPathsIn(paths)));
+        int deleted = 0;
+        for (Path candidate : candidates) {
+            if (!live.contains(candidate.toString())) {
+                deleteQuietly(candidate);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isOlderThan(Path file, FileTime cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private UploadSession requireActive(UUID id, UUID ownerId) {
+        // Offsets must be read-your-writes, so never from a lagging replica.
+        return ReadReplica.primaryOnly(() -> uploadSessionRepository.findById(id))
+                .filter(session -> Objects.equals(session.getOwnerId(), ownerId))
+                .filter(session -> session.getExpiresAt().isAfter(OffsetDateTime.now()))
+                .orElseThrow(() -> AppException.notFound("Upload session not found"));
+    }
+
+    private static long writeChunk(
+            FileChannel channel,
+            long offset,
+            long limit,
+            InputStream body,
+            MessageDigest digest,
+            String expectedSha256
+    ) throws IOException {
+        channel.truncate(offset);
+        long written;
+        try {
+            written = copy(body, channel, offset, limit, digest);
+            if (written == 0) {
+                throw AppException.badRequest("Chunk body is empty");
+            }
+            if (digest != null && !MessageDigest.isEqual(digest.digest(), HexFormat.of().parseHex(expectedSha256))) {
+                throw AppException.badRequest("Chunk checksum mismatch");
+            }
+        } catch (IOException ex) {
+            channel.truncate(offset);
+            throw AppException.badRequest("Chunk upload interrupted; resend from offset " + offset);
+        } catch (RuntimeException ex) {
+            channel.truncate(offset);
+            throw ex;
+        }
+        channel.force(false);
+        return written;
+    }
+
+    private static long copy(
+            InputStream body,
+            FileChannel channel,
+            long position,
+            long limit,
+            MessageDigest digest
+    ) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(body);
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+        long written = 0;
+        while (source.read(buffer) >= 0) {
+            buffer.flip();
+            if (written + buffer.remaining() > limit) {
+                throw AppException.badRequest("Chunk exceeds " + limit + " bytes");
+            }
+            if (digest != null) {
+                digest.update(buffer.array(), 0, buffer.limit());
+            }
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer, position + written);
+            }
+            buffer.clear();
+        }
+        return written;
+    }
+
+    private static String sha256Hex(FileChannel channel) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_BYTES);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) >= 0) {
+            digest.update(buffer.array(), 0, read);
+            position += read;
+            buffer.clear();
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static FileLock lockOrConflict(FileChannel channel) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            lock = null;
+        }
+        if (lock == null) {
+            throw AppException.conflict("Upload is busy with another request");
+        }
+        return lock;
+    }
+
+    private void discard(UploadSession session) {
+        transaction.executeWithoutResult(status -> uploadSessionRepository.deleteById(session.getId()));
+        deleteQuietly(Path.of(session.getStagingPath()));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            logger.warn("UPLOAD_STAGING_DELETE_FAILED path={} message={}", path, ex.getMessage());
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session) {
+        return UploadSessionResponse.from(session, uploadProperties.getChunked().getMaxChunkBytes());
+    }
+}
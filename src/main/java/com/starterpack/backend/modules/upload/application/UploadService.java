@@ -42,8 +42,12 @@ public class UploadService {
         validateFile(file);
 
         MediaStorage.StoredMedia stored = mediaStorage.store(file, folder);
+        return saveMedia(stored, file.getOriginalFilename(), uploadedBy);
+    }
+
+    UploadResponse saveMedia(MediaStorage.StoredMedia stored, String originalFilename, UUID uploadedBy) {
         UploadMedia media = new UploadMedia();
-        media.setOriginalFilename(safeOriginalName(file.getOriginalFilename()));
+        media.setOriginalFilename(safeOriginalName(originalFilename));
         media.setStoredFilename(stored.storedFilename());
         media.setContentType(stored.contentType());
         media.setExtension(stored.extension());
@@ -69,9 +73,8 @@ public class UploadService {
     @Transactional(readOnly = true)
     public PagedResponse<UploadResponse> list(int page, int size, String sortBy, Sort.Direction sortDirection) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<UploadMedia> uploads = uploadMediaRepository.findAll(pageable);
-        List<UploadResponse> items = uploads.getContent().stream().map(UploadResponse::from).toList();
-        return new PagedResponse<>(items, PageMeta.from(uploads));
+        Page<UploadResponse> uploads = uploadMediaRepository.findResponses(pageable);
+        return new PagedResponse<>(uploads.getContent(), PageMeta.from(uploads));
     }
 
     @Transactional(readOnly = true)
@@ -98,12 +101,16 @@ public class UploadService {
             throw AppException.badRequest("file exceeds max allowed size");
         }
 
+        validateContentType(file.getContentType());
+    }
+
+    void validateContentType(String rawContentType) {
         List<String> allow = uploadProperties.getAllowedContentTypes();
         if (allow == null || allow.isEmpty()) {
             return;
         }
 
-        String contentType = file.getContentType() == null ? "" : file.getContentType().toLowerCase(Locale.ROOT);
+        String contentType = rawContentType == null ? "" : rawContentType.toLowerCase(Locale.ROOT);
         Set<String> normalized = allow.stream().map(v -> v.toLowerCase(Locale.ROOT)).collect(java.util.stream.Collectors.toSet());
 
         if (!normalized.contains(contentType)) {
@@ -111,7 +118,7 @@ public class UploadService {
         }
     }
 
-    private String safeOriginalName(String originalFilename) {
+    String safeOriginalName(String originalFilename) {
         if (originalFilename == null || originalFilename.isBlank()) {
             return "file";
         }
@@ -0,0 +1,32 @@
+package com.starterpack.backend.modules.upload.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UploadSessionCleanupJob {
+    private static final Logger logger = LoggerFactory.getLogger(UploadSessionCleanupJob.class);
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    public UploadSessionCleanupJob(ChunkedUploadService chunkedUploadService) {
+        this.chunkedUploadService = chunkedUploadService;
+    }
+
+    @Scheduled(fixedDelayString = "${upload.chunked.cleanup-interval:PT15M}")
+    public void expireAbandoned() {
+        long startedAt = System.currentTimeMillis();
+        int deleted = chunkedUploadService.expireAbandoned();
+        int orphans = chunkedUploadService.sweepOrphanedStaging();
+        if (deleted > 0 || orphans > 0) {
+            logger.info(
+                    "UPLOAD_SESSIONS_EXPIRED deleted={} orphanedStagingFiles={} durationMs={}",
+                    deleted,
+                    orphans,
+                    System.currentTimeMillis() - startedAt
+            );
+        }
+    }
+}
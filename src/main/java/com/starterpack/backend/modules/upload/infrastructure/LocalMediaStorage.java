@@ -1,9 +1,11 @@
 package com.starterpack.backend.modules.upload.infrastructure;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -23,37 +25,62 @@ public class LocalMediaStorage implements MediaStorage {
 
     @Override
     public StoredMedia store(MultipartFile file, String folder) {
-        String original = file.getOriginalFilename() == null ? "file" : file.getOriginalFilename().trim();
-        String extension = extractExtension(original);
-        String stored = UUID.randomUUID() + (extension.isEmpty() ? "" : "." + extension);
-
-        String sanitizedFolder = sanitizeFolder(folder);
-        Path baseDir = Paths.get(uploadProperties.getLocal().getBaseDir()).toAbsolutePath().normalize();
-        Path targetDir = sanitizedFolder == null ? baseDir : baseDir.resolve(sanitizedFolder).normalize();
-        Path target = targetDir.resolve(stored).normalize();
+        Target target = resolveTarget(file.getOriginalFilename(), folder);
+        try {
+            Files.createDirectories(target.path().getParent());
+            file.transferTo(target.path());
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store uploaded file");
+        }
+        return target.toStoredMedia(file.getContentType(), file.getSize());
+    }
 
+    @Override
+    public StoredMedia store(Path source, String originalFilename, String contentType, String folder) {
+        Target target = resolveTarget(originalFilename, folder);
+        long size;
         try {
-            Files.createDirectories(targetDir);
-            file.transferTo(target);
+            Files.createDirectories(target.path().getParent());
+            size = Files.size(source);
+            move(source, target.path());
         } catch (IOException ex) {
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to store uploaded file");
         }
+        return target.toStoredMedia(contentType, size);
+    }
+
+    @Override
+    public void restore(StoredMedia stored, Path source) {
+        try {
+            move(Path.of(stored.storagePath()), source);
+        } catch (IOException ex) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to restore staged file");
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            // Staging dir on another filesystem: fall back to copy + delete.
+            Files.move(source, target);
+        }
+    }
+
+    private Target resolveTarget(String originalFilename, String folder) {
+        String original = originalFilename == null ? "file" : originalFilename.trim();
+        String extension = extractExtension(original);
+        String stored = UUID.randomUUID() + (extension.isEmpty() ? "" : "." + extension);
+
+        String sanitizedFolder = normalizeFolder(folder);
+        Path baseDir = Paths.get(uploadProperties.getLocal().getBaseDir()).toAbsolutePath().normalize();
+        Path targetDir = sanitizedFolder == null ? baseDir : baseDir.resolve(sanitizedFolder).normalize();
 
-        String pathForDb = target.toString();
         String publicBaseUrl = normalizePublicBaseUrl(uploadProperties.getLocal().getPublicBaseUrl());
         String publicUrl = sanitizedFolder == null
                 ? publicBaseUrl + "/" + stored
                 : publicBaseUrl + "/" + sanitizedFolder + "/" + stored;
-
-        return new StoredMedia(
-                stored,
-                pathForDb,
-                file.getContentType() == null ? "application/octet-stream" : file.getContentType(),
-                file.getSize(),
-                extension,
-                publicUrl,
-                "local"
-        );
+        return new Target(targetDir.resolve(stored).normalize(), stored, extension, publicUrl);
     }
 
     @Override
@@ -69,6 +96,20 @@ public class LocalMediaStorage implements MediaStorage {
         }
     }
 
+    private record Target(Path path, String storedFilename, String extension, String publicUrl) {
+        StoredMedia toStoredMedia(String contentType, long sizeBytes) {
+            return new StoredMedia(
+                    storedFilename,
+                    path.toString(),
+                    contentType == null ? "application/octet-stream" : contentType,
+                    sizeBytes,
+                    extension,
+                    publicUrl,
+                    "local"
+            );
+        }
+    }
+
     private String extractExtension(String name) {
         int dot = name.lastIndexOf('.');
         if (dot < 0 || dot == name.length() - 1) {
@@ -84,7 +125,8 @@ public class LocalMediaStorage implements MediaStorage {
         return publicBaseUrl.startsWith("/") ? publicBaseUrl : "/" + publicBaseUrl;
     }
 
-    private String sanitizeFolder(String folder) {
+    @Override
+    public String normalizeFolder(String folder) {
         if (folder == null || folder.isBlank()) {
             return null;
         }
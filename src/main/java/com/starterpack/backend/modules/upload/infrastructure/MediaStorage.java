@@ -1,12 +1,23 @@
 package com.starterpack.backend.modules.upload.infrastructure;
 
+import java.nio.file.Path;
+
 import org.springframework.web.multipart.MultipartFile;
 
 public interface MediaStorage {
     StoredMedia store(MultipartFile file, String folder);
 
+    /** Takes ownership of a fully written local file; it is moved, not copied, where possible. */
+    StoredMedia store(Path source, String originalFilename, String contentType, String folder);
+
+    /** Undoes {@link #store(Path, String, String, String)}: moves the stored file back to {@code source}. */
+    void restore(StoredMedia stored, Path source);
+
     void delete(String storagePath);
 
+    /** Validates a client-supplied folder and returns its canonical form, or null for none. */
+    String normalizeFolder(String folder);
+
     record StoredMedia(
             String storedFilename,
             String storagePath,
@@ -0,0 +1,9 @@
+package com.starterpack.backend.modules.upload.infrastructure;
+
+import com.starterpack.backend.modules.upload.api.dto.UploadResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface UploadMediaProjectionRepository {
+    Page<UploadResponse> findResponses(Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package com.starterpack.backend.modules.upload.infrastructure;
+
+import java.util.List;
+
+import com.starterpack.backend.common.persistence.SpecificationProjections;
+import com.starterpack.backend.modules.upload.api.dto.UploadResponse;
+import com.starterpack.backend.modules.upload.domain.UploadMedia;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+class UploadMediaProjectionRepositoryImpl implements UploadMediaProjectionRepository {
+    private final EntityManager entityManager;
+
+    UploadMediaProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<UploadResponse> findResponses(Pageable pageable) {
+        return SpecificationProjections.page(
+                entityManager,
+                UploadMedia.class,
+                UploadResponse.class,
+                null,
+                pageable,
+                root -> List.of(
+                        root.get("id"),
+                        root.get("originalFilename"),
+                        root.get("contentType"),
+                        root.get("extension"),
+                        root.get("sizeBytes"),
+                        root.get("publicUrl"),
+                        root.get("createdAt")
+                )
+        );
+    }
+}
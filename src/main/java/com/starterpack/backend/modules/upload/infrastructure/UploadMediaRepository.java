@@ -7,5 +7,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UploadMediaRepository extends JpaRepository<UploadMedia, UUID> {
+public interface UploadMediaRepository extends JpaRepository<UploadMedia, UUID>, UploadMediaProjectionRepository {
 }
@@ -0,0 +1,38 @@
+package com.starterpack.backend.modules.upload.infrastructure;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.upload.domain.UploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, UUID> {
+    /** Moves the offset forward only if nobody else did first; returns 0 on a lost race. */
+    @Modifying
+    @Query("""
+            UPDATE UploadSession s
+            SET s.receivedBytes = :received,
+                s.expiresAt = :expiresAt
+            WHERE s.id = :id
+              AND s.receivedBytes = :expected
+            """)
+    int advance(
+            @Param("id") UUID id,
+            @Param("expected") long expected,
+            @Param("received") long received,
+            @Param("expiresAt") OffsetDateTime expiresAt
+    );
+
+    List<UploadSession> findByExpiresAtBefore(OffsetDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT s.stagingPath FROM UploadSession s WHERE s.stagingPath IN :paths")
+    List<String> findStagingPathsIn(@Param("paths") Collection<String> paths);
+}
@@ -1,16 +1,24 @@
 package com.starterpack.backend.modules.users.api;
 
 import java.net.URI;
+import java.util.Locale;
 import java.util.UUID;
 
+import com.starterpack.backend.common.web.CursorPagedResponse;
 import com.starterpack.backend.common.web.PagedResponse;
 import com.starterpack.backend.modules.auth.api.dto.MessageResponse;
+import com.starterpack.backend.modules.auth.application.BulkVerificationService;
+import com.starterpack.backend.modules.auth.application.model.BulkVerificationJob;
+import com.starterpack.backend.modules.auth.application.port.VerificationCampaignStorePort;
+import com.starterpack.backend.modules.users.api.dto.BulkVerificationJobResponse;
+import com.starterpack.backend.modules.users.api.dto.BulkVerificationRequest;
 import com.starterpack.backend.modules.users.api.dto.CreateUserRequest;
 import com.starterpack.backend.modules.users.api.dto.UpdateUserRequest;
 import com.starterpack.backend.modules.users.api.dto.UpdateUserRoleRequest;
 import com.starterpack.backend.modules.users.api.dto.UpdateUserStatusRequest;
 import com.starterpack.backend.modules.users.api.dto.UserPermissionsResponse;
 import com.starterpack.backend.modules.users.api.dto.UserResponse;
+import com.starterpack.backend.modules.users.application.UserSearchMode;
 import com.starterpack.backend.modules.users.application.UserService;
 import com.starterpack.backend.modules.users.domain.User;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +32,7 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -44,9 +53,11 @@ import org.springframework.web.server.ResponseStatusException;
 @Validated
 public class AdminUserController {
     private final UserService userService;
+    private final BulkVerificationService bulkVerificationService;
 
-    public AdminUserController(UserService userService) {
+    public AdminUserController(UserService userService, BulkVerificationService bulkVerificationService) {
         this.userService = userService;
+        this.bulkVerificationService = bulkVerificationService;
     }
 
     @Operation(summary = "Create user", description = "Creates a new user and assigns a role.")
@@ -78,7 +89,7 @@ public class AdminUserController {
             @Parameter(description = "User id", example = "6cfb19a7-71a3-46a8-b1d8-3de77bcd9b61")
             @PathVariable UUID id
     ) {
-        return UserResponse.from(userService.getUser(id));
+        return userService.getUserProfile(id);
     }
 
     @Operation(summary = "List users", description = "Returns users with pagination/filtering.")
@@ -96,7 +107,9 @@ public class AdminUserController {
             @RequestParam(defaultValue = "desc") String sortDir,
             @RequestParam(required = false) String q,
             @RequestParam(required = false) Integer roleId,
-            @RequestParam(required = false) Boolean emailVerified
+            @RequestParam(required = false) Boolean emailVerified,
+            @Parameter(description = "contains = substring match in sortBy order, ranked = trigram similarity order", example = "contains")
+            @RequestParam(defaultValue = "contains") String searchMode
     ) {
         if (page < 1) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be >= 1");
@@ -107,7 +120,54 @@ public class AdminUserController {
 
         String resolvedSortBy = resolveSortBy(sortBy);
         Sort.Direction direction = parseDirection(sortDir);
-        return userService.listUsers(page - 1, size, resolvedSortBy, direction, q, roleId, emailVerified);
+        return userService.listUsers(
+                page - 1,
+                size,
+                resolvedSortBy,
+                direction,
+                q,
+                roleId,
+                emailVerified,
+                parseSearchMode(searchMode)
+        );
+    }
+
+    @Operation(
+            summary = "List users by cursor",
+            description = "Keyset pagination on (sortBy, id). Pass page.nextCursor back as cursor; cost stays flat on deep pages."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Users window",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or parameters", content = @Content)
+    })
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('users:read')")
+    public CursorPagedResponse<UserResponse> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer roleId,
+            @RequestParam(required = false) Boolean emailVerified,
+            @Parameter(description = "Adds an estimated total (pg_class.reltuples) when no filter is set")
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        if (size < 1 || size > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and 100");
+        }
+        return userService.scrollUsers(
+                cursor,
+                size,
+                resolveSortBy(sortBy),
+                parseDirection(sortDir),
+                q,
+                roleId,
+                emailVerified,
+                includeTotal
+        );
     }
 
     @Operation(summary = "Update user role", description = "Assigns a new role to a user.")
@@ -185,6 +245,41 @@ public class AdminUserController {
         return new MessageResponse("password_reset_requested");
     }
 
+    @Operation(summary = "Start bulk email verification",
+            description = "Issues email verification tokens to all matching users in batches and queues the emails.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Campaign queued",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkVerificationJobResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Too many campaigns queued", content = @Content)
+    })
+    @PostMapping("/verification/bulk")
+    @PreAuthorize("hasAuthority('users:manage')")
+    public ResponseEntity<BulkVerificationJobResponse> startBulkVerification(
+            @Valid @RequestBody BulkVerificationRequest request,
+            Authentication authentication
+    ) {
+        BulkVerificationJob job = bulkVerificationService.start(
+                new VerificationCampaignStorePort.TargetFilter(request.roleId(), request.emailVerified(), request.userIds()),
+                currentUser(authentication)
+        );
+        URI location = URI.create("/api/admin/users/verification/bulk/" + job.id());
+        return ResponseEntity.accepted().location(location).body(BulkVerificationJobResponse.from(job));
+    }
+
+    @Operation(summary = "Get bulk email verification progress", description = "Returns progress of a bulk verification campaign.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Campaign progress",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = BulkVerificationJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Campaign not found", content = @Content)
+    })
+    @GetMapping("/verification/bulk/{jobId}")
+    @PreAuthorize("hasAuthority('users:manage')")
+    public BulkVerificationJobResponse getBulkVerification(@PathVariable UUID jobId) {
+        return BulkVerificationJobResponse.from(bulkVerificationService.getJob(jobId));
+    }
+
     @Operation(summary = "Delete user", description = "Deletes a user and related auth records.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "User deleted", content = @Content),
@@ -200,6 +295,13 @@ public class AdminUserController {
         return ResponseEntity.noContent().build();
     }
 
+    private User currentUser(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthenticated");
+        }
+        return user;
+    }
+
     private String resolveSortBy(String sortBy) {
         return switch (sortBy) {
             case "id", "name", "email", "createdAt", "updatedAt" -> sortBy;
@@ -210,6 +312,14 @@ public class AdminUserController {
         };
     }
 
+    private UserSearchMode parseSearchMode(String searchMode) {
+        try {
+            return UserSearchMode.valueOf(searchMode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "searchMode must be contains or ranked");
+        }
+    }
+
     private Sort.Direction parseDirection(String sortDir) {
         try {
             return Sort.Direction.fromString(sortDir);
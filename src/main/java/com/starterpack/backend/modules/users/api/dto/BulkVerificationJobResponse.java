@@ -0,0 +1,39 @@
+package com.starterpack.backend.modules.users.api.dto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.auth.application.model.BulkVerificationJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Bulk verification campaign progress")
+public record BulkVerificationJobResponse(
+        UUID id,
+        BulkVerificationJob.Status status,
+        long total,
+        long processed,
+        long issued,
+        int batches,
+        int percent,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt,
+        String error
+) {
+    public static BulkVerificationJobResponse from(BulkVerificationJob job) {
+        int percent = job.total() == 0
+                ? (job.status() == BulkVerificationJob.Status.COMPLETED ? 100 : 0)
+                : (int) Math.min(100, job.processed() * 100 / job.total());
+        return new BulkVerificationJobResponse(
+                job.id(),
+                job.status(),
+                job.total(),
+                job.processed(),
+                job.issued(),
+                job.batches(),
+                percent,
+                job.startedAt(),
+                job.finishedAt(),
+                job.error()
+        );
+    }
+}
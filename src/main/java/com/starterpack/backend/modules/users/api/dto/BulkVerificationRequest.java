@@ -0,0 +1,19 @@
+package com.starterpack.backend.modules.users.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "Targets for a bulk email verification campaign. Omitted filters match all active users.")
+public record BulkVerificationRequest(
+        @Schema(description = "Only users with this role", example = "3")
+        Integer roleId,
+        @Schema(description = "Only users with this email verification state", example = "false")
+        Boolean emailVerified,
+        @Schema(description = "Only these users")
+        @Size(max = 10000)
+        List<UUID> userIds
+) {
+}
@@ -0,0 +1,109 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.starterpack.backend.modules.users.domain.Permission;
+import com.starterpack.backend.modules.users.domain.PermissionBits;
+import com.starterpack.backend.modules.users.infrastructure.PermissionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PermissionBitIndex {
+    private static final Logger logger = LoggerFactory.getLogger(PermissionBitIndex.class);
+    private static final long RELOAD_ON_MISS_INTERVAL_NANOS = Duration.ofSeconds(30).toNanos();
+
+    private final PermissionRepository permissionRepository;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile long lastReloadNanos;
+
+    public PermissionBitIndex(PermissionRepository permissionRepository) {
+        this.permissionRepository = permissionRepository;
+    }
+
+    public int bitOf(String permissionName) {
+        if (permissionName == null) {
+            return -1;
+        }
+        Integer bit = snapshot().bitsByName.get(permissionName);
+        if (bit == null && reloadOnMiss()) {
+            bit = snapshot().bitsByName.get(permissionName);
+        }
+        return bit == null ? -1 : bit;
+    }
+
+    public List<String> names(PermissionBits bits) {
+        List<String> names = new ArrayList<>();
+        bits.forEach(bit -> {
+            String name = snapshot().nameOf(bit);
+            if (name == null && reloadOnMiss()) {
+                name = snapshot().nameOf(bit);
+            }
+            if (name != null) {
+                names.add(name);
+            }
+        });
+        return names;
+    }
+
+    public void reload() {
+        Map<String, Integer> bitsByName = new HashMap<>();
+        int max = -1;
+        List<Permission> permissions = permissionRepository.findAll();
+        for (Permission permission : permissions) {
+            bitsByName.put(permission.getName(), permission.getId());
+            max = Math.max(max, permission.getId());
+        }
+        String[] namesByBit = new String[max + 1];
+        bitsByName.forEach((name, bit) -> namesByBit[bit] = name);
+        snapshot = new Snapshot(Map.copyOf(bitsByName), namesByBit);
+        lastReloadNanos = System.nanoTime();
+        logger.info("PERMISSION_INDEX_LOADED permissions={} words={}", bitsByName.size(), (max >> 6) + 1);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reloadLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    reload();
+                    current = snapshot;
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private boolean reloadOnMiss() {
+        if (System.nanoTime() - lastReloadNanos < RELOAD_ON_MISS_INTERVAL_NANOS) {
+            return false;
+        }
+        reloadLock.lock();
+        try {
+            if (System.nanoTime() - lastReloadNanos < RELOAD_ON_MISS_INTERVAL_NANOS) {
+                return false;
+            }
+            reload();
+            return true;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private record Snapshot(Map<String, Integer> bitsByName, String[] namesByBit) {
+        String nameOf(int bit) {
+            return bit < namesByBit.length ? namesByBit[bit] : null;
+        }
+    }
+}
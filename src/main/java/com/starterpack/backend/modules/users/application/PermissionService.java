@@ -16,10 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PermissionService {
     private final PermissionRepository permissionRepository;
+    private final PermissionBitIndex permissionBitIndex;
     private final AuditEventService auditEventService;
 
-    public PermissionService(PermissionRepository permissionRepository, AuditEventService auditEventService) {
+    public PermissionService(
+            PermissionRepository permissionRepository,
+            PermissionBitIndex permissionBitIndex,
+            AuditEventService auditEventService
+    ) {
         this.permissionRepository = permissionRepository;
+        this.permissionBitIndex = permissionBitIndex;
         this.auditEventService = auditEventService;
     }
 
@@ -33,6 +39,7 @@ public class PermissionService {
         permission.setName(name);
         permission.setDescription(request.description());
         Permission saved = permissionRepository.save(permission);
+        permissionBitIndex.reload();
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.PERMISSIONS_CREATE,
                 "permission",
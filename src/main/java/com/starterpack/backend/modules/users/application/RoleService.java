@@ -28,6 +28,7 @@ public class RoleService {
     private final UserRepository userRepository;
     private final SessionRepository sessionRepository;
     private final AuthSessionCachePort authSessionCache;
+    private final UserProfileService userProfileService;
     private final AuditEventService auditEventService;
 
     public RoleService(
@@ -36,6 +37,7 @@ public class RoleService {
             UserRepository userRepository,
             SessionRepository sessionRepository,
             AuthSessionCachePort authSessionCache,
+            UserProfileService userProfileService,
             AuditEventService auditEventService
     ) {
         this.roleRepository = roleRepository;
@@ -43,6 +45,7 @@ public class RoleService {
         this.userRepository = userRepository;
         this.sessionRepository = sessionRepository;
         this.authSessionCache = authSessionCache;
+        this.userProfileService = userProfileService;
         this.auditEventService = auditEventService;
     }
 
@@ -94,5 +97,7 @@ public class RoleService {
         List<UUID> userIds = userRepository.findIdsByRoleId(roleId);
         sessionRepository.deleteByUserRoleId(roleId);
         userIds.forEach(authSessionCache::evictAllUserSessions);
+        // Cached profiles embed the role; drop them with the sessions.
+        userIds.forEach(userProfileService::evict);
     }
 }
@@ -0,0 +1,67 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterpack.backend.common.error.AppException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserCursorCodec {
+    private final ObjectMapper objectMapper;
+
+    public UserCursorCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String encode(String sortBy, Sort.Direction direction, KeysetScrollPosition position) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        position.getKeys().forEach((property, value) -> keys.put(property, String.valueOf(value)));
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new Cursor(sortBy, direction, keys));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cursor serialization failed", ex);
+        }
+    }
+
+    public ScrollPosition decode(String cursor, String sortBy, Sort.Direction direction) {
+        Cursor decoded;
+        try {
+            decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), Cursor.class);
+        } catch (IllegalArgumentException | IOException ex) {
+            throw AppException.badRequest("Invalid cursor");
+        }
+        if (decoded.keys() == null || !sortBy.equals(decoded.sortBy()) || direction != decoded.direction()) {
+            throw AppException.badRequest("Cursor does not match sortBy/sortDir");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            decoded.keys().forEach((property, value) -> keys.put(property, parseKey(property, value)));
+        } catch (RuntimeException ex) {
+            throw AppException.badRequest("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private Object parseKey(String property, String value) {
+        return switch (property) {
+            case "id" -> UUID.fromString(value);
+            case "createdAt", "updatedAt" -> OffsetDateTime.parse(value);
+            case "name", "email" -> value;
+            default -> throw new IllegalArgumentException(property);
+        };
+    }
+
+    private record Cursor(String sortBy, Sort.Direction direction, Map<String, String> keys) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.starterpack.backend.config.CacheProperties;
+import com.starterpack.backend.modules.users.application.port.UserListCachePort.CachedUserList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserListRefreshAhead implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(UserListRefreshAhead.class);
+    private static final int REFRESH_THREADS = 2;
+    private static final int MAX_QUEUED_REFRESHES = 64;
+
+    private final CacheProperties cacheProperties;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor;
+
+    public UserListRefreshAhead(CacheProperties cacheProperties) {
+        this.cacheProperties = cacheProperties;
+        this.executor = new ThreadPoolExecutor(
+                REFRESH_THREADS,
+                REFRESH_THREADS,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_REFRESHES),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-list-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public boolean shouldRefresh(CachedUserList cached) {
+        return shouldRefresh(cached, System.currentTimeMillis(), 1.0 - ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Probabilistic early expiry (XFetch): refreshes once {@code now} is within
+     * an exponentially distributed distance of expiry. The mean distance is the
+     * recompute time times beta, but never less than {@code list-refresh-window}
+     * of the TTL; a page that loads in a few ms would otherwise only be
+     * refreshed in the last few ms of a five-minute TTL.
+     *
+     * @param random uniform in (0, 1]
+     */
+    boolean shouldRefresh(CachedUserList cached, long nowMillis, double random) {
+        CacheProperties.Users users = cacheProperties.getUsers();
+        double beta = users.getListRefreshBeta();
+        if (beta <= 0) {
+            return false;
+        }
+        double windowMillis = Math.max(
+                cached.recomputeMillis() * beta,
+                users.getListTtl().toMillis() * users.getListRefreshWindow()
+        );
+        double earlyMillis = -windowMillis * Math.log(random);
+        return nowMillis + earlyMillis >= cached.expiresAtEpochMillis();
+    }
+
+    public void refresh(String listKey, Runnable recompute) {
+        if (!pending.add(listKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    recompute.run();
+                } catch (RuntimeException ex) {
+                    logger.warn("USER_LIST_REFRESH_FAILED key={} message={}", listKey, ex.getMessage());
+                } finally {
+                    pending.remove(listKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            pending.remove(listKey);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,85 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.starterpack.backend.common.concurrency.RedisSingleFlight;
+import com.starterpack.backend.common.error.AppException;
+import com.starterpack.backend.common.persistence.ReadReplica;
+import com.starterpack.backend.config.CacheProperties;
+import com.starterpack.backend.modules.users.api.dto.UserResponse;
+import com.starterpack.backend.modules.users.application.port.UserProfileCachePort;
+import com.starterpack.backend.modules.users.infrastructure.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class UserProfileService {
+    private final UserRepository userRepository;
+    private final UserProfileCachePort userProfileCache;
+    private final CacheProperties cacheProperties;
+    private final RedisSingleFlight singleFlight;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public UserProfileService(
+            UserRepository userRepository,
+            UserProfileCachePort userProfileCache,
+            CacheProperties cacheProperties,
+            RedisSingleFlight singleFlight,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.cacheProperties = cacheProperties;
+        this.singleFlight = singleFlight;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public UserResponse getProfile(UUID userId, Supplier<AppException> notFound) {
+        Optional<UserResponse> cached = userProfileCache.getProfile(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        UserResponse profile = singleFlight.execute(
+                "users:by-id:" + userId,
+                () -> userProfileCache.getProfile(userId),
+                () -> loadAndCache(userId)
+        );
+        if (profile == null) {
+            throw notFound.get();
+        }
+        return profile;
+    }
+
+    public void evict(UUID userId) {
+        userProfileCache.evictProfile(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userProfileCache.evictProfile(userId);
+                }
+            });
+        }
+    }
+
+    private UserResponse loadAndCache(UUID userId) {
+        // Read before the query: an evict after this point, including the one
+        // after commit, makes the put below a no-op instead of caching stale data.
+        long generation = userProfileCache.profileGeneration(userId);
+        // Cached result, so read from the primary: see ReadReplica#primaryOnly.
+        UserResponse profile = ReadReplica.primaryOnly(() -> readOnlyTransaction.execute(status -> userRepository.findById(userId)
+                .map(UserResponse::from)
+                .orElse(null)));
+        if (profile != null) {
+            userProfileCache.putProfile(profile, cacheProperties.getUsers().getProfileTtl(), generation);
+        }
+        return profile;
+    }
+}
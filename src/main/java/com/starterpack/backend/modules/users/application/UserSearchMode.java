@@ -0,0 +1,6 @@
+package com.starterpack.backend.modules.users.application;
+
+public enum UserSearchMode {
+    CONTAINS,
+    RANKED
+}
@@ -2,10 +2,19 @@ package com.starterpack.backend.modules.users.application;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import com.starterpack.backend.common.concurrency.RedisSingleFlight;
 import com.starterpack.backend.common.error.AppException;
+import com.starterpack.backend.common.persistence.ReadReplica;
+import com.starterpack.backend.common.web.CursorMeta;
+import com.starterpack.backend.common.web.CursorPagedResponse;
 import com.starterpack.backend.common.web.PageMeta;
 import com.starterpack.backend.common.web.PagedResponse;
 import com.starterpack.backend.config.CacheProperties;
@@ -20,6 +29,7 @@ import com.starterpack.backend.modules.users.api.dto.UserPermissionsResponse;
 import com.starterpack.backend.modules.users.api.dto.UserResponse;
 import com.starterpack.backend.modules.users.domain.Permission;
 import com.starterpack.backend.modules.users.application.port.UserListCachePort;
+import com.starterpack.backend.modules.users.application.port.UserListCachePort.CachedUserList;
 import com.starterpack.backend.modules.users.domain.Account;
 import com.starterpack.backend.modules.users.domain.Role;
 import com.starterpack.backend.modules.users.domain.User;
@@ -27,16 +37,26 @@ import com.starterpack.backend.modules.users.domain.UserStatus;
 import com.starterpack.backend.modules.users.infrastructure.AccountRepository;
 import com.starterpack.backend.modules.users.infrastructure.RoleRepository;
 import com.starterpack.backend.modules.users.infrastructure.SessionRepository;
+import com.starterpack.backend.modules.users.infrastructure.UserListRow;
 import com.starterpack.backend.modules.users.infrastructure.UserRepository;
 import com.starterpack.backend.modules.users.infrastructure.VerificationRepository;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
@@ -54,6 +74,11 @@ public class UserService {
     private final CacheProperties cacheProperties;
     private final AuthService authService;
     private final AuditEventService auditEventService;
+    private final UserProfileService userProfileService;
+    private final RedisSingleFlight singleFlight;
+    private final UserListRefreshAhead userListRefreshAhead;
+    private final UserCursorCodec userCursorCodec;
+    private final TransactionTemplate readOnlyTransaction;
 
     public UserService(
             UserRepository userRepository,
@@ -66,7 +91,12 @@ public class UserService {
             AuthSessionCachePort authSessionCache,
             CacheProperties cacheProperties,
             AuthService authService,
-            AuditEventService auditEventService
+            AuditEventService auditEventService,
+            UserProfileService userProfileService,
+            RedisSingleFlight singleFlight,
+            UserListRefreshAhead userListRefreshAhead,
+            UserCursorCodec userCursorCodec,
+            PlatformTransactionManager transactionManager
     ) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
@@ -79,6 +109,12 @@ public class UserService {
         this.cacheProperties = cacheProperties;
         this.authService = authService;
         this.auditEventService = auditEventService;
+        this.userProfileService = userProfileService;
+        this.singleFlight = singleFlight;
+        this.userListRefreshAhead = userListRefreshAhead;
+        this.userCursorCodec = userCursorCodec;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     public User createUser(CreateUserRequest request) {
@@ -107,7 +143,7 @@ public class UserService {
         account.setPasswordHash(passwordEncoder.encode(request.password()));
         accountRepository.save(account);
 
-        userListCache.invalidateLists();
+        invalidateLists();
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.USERS_CREATE,
                 "user",
@@ -123,7 +159,12 @@ public class UserService {
                 .orElseThrow(() -> AppException.notFound("User not found"));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserResponse getUserProfile(UUID id) {
+        return userProfileService.getProfile(id, () -> AppException.notFound("User not found"));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PagedResponse<UserResponse> listUsers(
             int page,
             int size,
@@ -131,24 +172,65 @@ public class UserService {
             Sort.Direction sortDirection,
             String q,
             Integer roleId,
-            Boolean emailVerified
+            Boolean emailVerified,
+            UserSearchMode searchMode
     ) {
-        String listCacheKey = listCacheKey(page, size, sortBy, sortDirection, q, roleId, emailVerified);
-        Optional<PagedResponse<UserResponse>> cached = userListCache.getList(listCacheKey);
+        boolean ranked = searchMode == UserSearchMode.RANKED && q != null && !q.isBlank();
+        String listCacheKey = listCacheKey(page, size, sortBy, sortDirection, q, roleId, emailVerified)
+                + (ranked ? ":ranked" : "");
+        Function<Pageable, Page<UserResponse>> query = ranked
+                ? rankedSearch(q, roleId, emailVerified)
+                : pageRequest -> userRepository.findListRows(buildUserFilter(q, roleId, emailVerified), pageRequest)
+                .map(UserListRow::toResponse);
+        Pageable pageable = ranked
+                ? PageRequest.of(page, size)
+                : PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        Optional<CachedUserList> cached = userListCache.getList(listCacheKey);
         if (cached.isPresent()) {
-            return cached.get();
+            if (userListRefreshAhead.shouldRefresh(cached.get())) {
+                userListRefreshAhead.refresh(listCacheKey, () -> loadUserList(listCacheKey, query, pageable));
+            }
+            return cached.get().page();
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<User> users = userRepository.findAll(buildUserFilter(q, roleId, emailVerified), pageable);
+        return singleFlight.execute(
+                listCacheKey,
+                () -> userListCache.getList(listCacheKey).map(CachedUserList::page),
+                () -> loadUserList(listCacheKey, query, pageable)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<UserResponse> scrollUsers(
+            String cursor,
+            int size,
+            String sortBy,
+            Sort.Direction sortDirection,
+            String q,
+            Integer roleId,
+            Boolean emailVerified,
+            boolean includeTotal
+    ) {
+        Sort sort = "id".equals(sortBy)
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sortBy).and(Sort.by(sortDirection, "id"));
+        ScrollPosition position = cursor == null || cursor.isBlank()
+                ? ScrollPosition.keyset()
+                : userCursorCodec.decode(cursor, sortBy, sortDirection);
+        Window<User> window = userRepository.findBy(
+                buildUserFilter(q, roleId, emailVerified),
+                query -> query.sortBy(sort).limit(size).project("role").scroll(position)
+        );
 
-        List<UserResponse> items = users.getContent().stream()
+        List<UserResponse> items = window.getContent().stream()
                 .map(UserResponse::from)
                 .toList();
-
-        PagedResponse<UserResponse> response = new PagedResponse<>(items, PageMeta.from(users));
-        cacheUserList(listCacheKey, response);
-        return response;
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? userCursorCodec.encode(sortBy, sortDirection, (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        boolean unfiltered = (q == null || q.isBlank()) && roleId == null && emailVerified == null;
+        Long estimatedTotal = includeTotal && unfiltered ? userRepository.estimateCount() : null;
+        return new CursorPagedResponse<>(items, new CursorMeta(size, nextCursor, nextCursor != null, estimatedTotal));
     }
 
     public User updateUserRole(UUID userId, Integer roleId) {
@@ -158,7 +240,8 @@ public class UserService {
         user.setRole(role);
         sessionRepository.deleteByUserId(user.getId());
         authSessionCache.evictAllUserSessions(user.getId());
-        userListCache.invalidateLists();
+        invalidateLists();
+        userProfileService.evict(user.getId());
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.USERS_ROLE_UPDATE,
                 "user",
@@ -194,7 +277,8 @@ public class UserService {
         if (request.status() != null) {
             user.setStatus(request.status());
         }
-        userListCache.invalidateLists();
+        invalidateLists();
+        userProfileService.evict(user.getId());
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.USERS_UPDATE,
                 "user",
@@ -211,7 +295,8 @@ public class UserService {
             sessionRepository.deleteByUserId(user.getId());
             authSessionCache.evictAllUserSessions(user.getId());
         }
-        userListCache.invalidateLists();
+        invalidateLists();
+        userProfileService.evict(user.getId());
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.USERS_STATUS_UPDATE,
                 "user",
@@ -248,7 +333,8 @@ public class UserService {
     public void deleteUser(UUID userId) {
         User user = getUser(userId);
         verificationRepository.deleteByIdentifier(user.getId().toString());
-        userListCache.invalidateLists();
+        invalidateLists();
+        userProfileService.evict(user.getId());
         userRepository.delete(user);
         auditEventService.record(AuditEventService.AuditEvent.success(
                 AuditActions.USERS_DELETE,
@@ -268,8 +354,37 @@ public class UserService {
                 .orElseThrow(() -> AppException.badRequest("Default role USER not found"));
     }
 
-    private void cacheUserList(String listCacheKey, PagedResponse<UserResponse> response) {
-        userListCache.putList(listCacheKey, response, cacheProperties.getUsers().getListTtl());
+    private PagedResponse<UserResponse> loadUserList(
+            String listCacheKey,
+            Function<Pageable, Page<UserResponse>> query,
+            Pageable pageable
+    ) {
+        long generation = userListCache.listGeneration();
+        long startedAt = System.nanoTime();
+        // Cached result, so read from the primary: see ReadReplica#primaryOnly.
+        PagedResponse<UserResponse> response = ReadReplica.primaryOnly(() -> readOnlyTransaction.execute(status -> {
+            Page<UserResponse> users = query.apply(pageable);
+            return new PagedResponse<>(users.getContent(), PageMeta.from(users));
+        }));
+        long recomputeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        userListCache.putList(listCacheKey, response, cacheProperties.getUsers().getListTtl(), recomputeMillis, generation);
+        return response;
+    }
+
+    /**
+     * Invalidates now and again after commit: a page loaded between the two
+     * still sees the old rows, and the second bump keeps it out of the cache.
+     */
+    private void invalidateLists() {
+        userListCache.invalidateLists();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userListCache.invalidateLists();
+                }
+            });
+        }
     }
 
     private String listCacheKey(
@@ -288,6 +403,27 @@ public class UserService {
                 + ":" + qPart + ":" + rolePart + ":" + verifiedPart;
     }
 
+    private Function<Pageable, Page<UserResponse>> rankedSearch(String q, Integer roleId, Boolean emailVerified) {
+        String term = q.trim().toLowerCase(Locale.ROOT);
+        String pattern = "%" + escapeLike(term) + "%";
+        return pageRequest -> {
+            // Ranked ids first, then one projection query with the role joined;
+            // mapping ranked User entities would load each role lazily.
+            Page<UUID> ids = userRepository.searchRankedIds(term, pattern, roleId, emailVerified, pageRequest);
+            Map<UUID, UserResponse> rows = userRepository.findListRowsByIds(ids.getContent()).stream()
+                    .collect(Collectors.toMap(UserListRow::id, UserListRow::toResponse));
+            List<UserResponse> ranked = ids.getContent().stream()
+                    .map(rows::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(ranked, ids.getPageable(), ids.getTotalElements());
+        };
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private Specification<User> buildUserFilter(String q, Integer roleId, Boolean emailVerified) {
         return (root, query, cb) -> {
             java.util.List<jakarta.persistence.criteria.Predicate> predicates = new java.util.ArrayList<>();
@@ -7,9 +7,20 @@ import com.starterpack.backend.common.web.PagedResponse;
 import com.starterpack.backend.modules.users.api.dto.UserResponse;
 
 public interface UserListCachePort {
-    Optional<PagedResponse<UserResponse>> getList(String listKey);
+    Optional<CachedUserList> getList(String listKey);
 
-    void putList(String listKey, PagedResponse<UserResponse> response, Duration ttl);
+    /** Current list generation; read it before loading a page and pass it to {@link #putList}. */
+    long listGeneration();
+
+    /** Stores the page only if no {@link #invalidateLists} happened since {@code generation} was read. */
+    void putList(String listKey, PagedResponse<UserResponse> response, Duration ttl, long recomputeMillis, long generation);
 
     void invalidateLists();
+
+    record CachedUserList(
+            PagedResponse<UserResponse> page,
+            long recomputeMillis,
+            long expiresAtEpochMillis
+    ) {
+    }
 }
@@ -0,0 +1,19 @@
+package com.starterpack.backend.modules.users.application.port;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.users.api.dto.UserResponse;
+
+public interface UserProfileCachePort {
+    Optional<UserResponse> getProfile(UUID userId);
+
+    /** Current generation of the user's profile; read it before loading and pass it to {@link #putProfile}. */
+    long profileGeneration(UUID userId);
+
+    /** Stores the profile only if no {@link #evictProfile} happened since {@code generation} was read. */
+    void putProfile(UserResponse profile, Duration ttl, long generation);
+
+    void evictProfile(UUID userId);
+}
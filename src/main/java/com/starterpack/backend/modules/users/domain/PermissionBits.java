@@ -0,0 +1,94 @@
+package com.starterpack.backend.modules.users.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+public final class PermissionBits {
+    private static final long[] NO_WORDS = new long[0];
+    public static final PermissionBits EMPTY = new PermissionBits(NO_WORDS);
+
+    private final long[] words;
+
+    private PermissionBits(long[] words) {
+        this.words = words;
+    }
+
+    public static PermissionBits of(Collection<Integer> bits) {
+        if (bits == null || bits.isEmpty()) {
+            return EMPTY;
+        }
+        int max = -1;
+        for (Integer bit : bits) {
+            if (bit != null && bit > max) {
+                max = bit;
+            }
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] words = new long[(max >> 6) + 1];
+        for (Integer bit : bits) {
+            if (bit != null && bit >= 0) {
+                words[bit >> 6] |= 1L << bit;
+            }
+        }
+        return new PermissionBits(words);
+    }
+
+    public static PermissionBits ofPermissions(Collection<Permission> permissions) {
+        if (permissions == null || permissions.isEmpty()) {
+            return EMPTY;
+        }
+        return of(permissions.stream().map(Permission::getId).toList());
+    }
+
+    public static PermissionBits fromWords(long[] words) {
+        if (words == null || words.length == 0) {
+            return EMPTY;
+        }
+        return new PermissionBits(words.clone());
+    }
+
+    public boolean contains(int bit) {
+        if (bit < 0) {
+            return false;
+        }
+        int word = bit >> 6;
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int offset = Long.numberOfTrailingZeros(word);
+                consumer.accept((i << 6) + offset);
+                word &= word - 1;
+            }
+        }
+    }
+
+    public long[] toWords() {
+        return words.clone();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PermissionBits bits && Arrays.equals(words, bits.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -1,60 +1,110 @@
 package com.starterpack.backend.modules.users.infrastructure;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+import com.starterpack.backend.common.metrics.CacheMeters;
+import com.starterpack.backend.common.metrics.RedisMetrics;
 import com.starterpack.backend.common.web.PagedResponse;
 import com.starterpack.backend.modules.users.api.dto.UserResponse;
 import com.starterpack.backend.modules.users.application.port.UserListCachePort;
+import com.starterpack.backend.modules.users.application.port.UserProfileCachePort;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 @Component
-public class UserCache implements UserListCachePort {
+public class UserCache implements UserListCachePort, UserProfileCachePort {
     private static final String PREFIX = "users";
+    // Outside the users:list:* pattern, so invalidateLists never deletes it.
+    private static final String LIST_GENERATION_KEY = PREFIX + ":list-generation";
+    private static final long UNKNOWN_GENERATION = -1;
+    // Outlives any profile load by far; an expired generation reads as 0 and still refuses older loads.
+    private static final Duration PROFILE_GENERATION_TTL = Duration.ofDays(1);
+
+    // KEYS[1] = list page or profile, KEYS[2] = generation; ARGV = expected generation, json, ttl millis
+    private static final RedisScript<Long> PUT_IF_GENERATION = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = profile, KEYS[2] = its generation; ARGV = generation ttl millis
+    private static final RedisScript<Long> EVICT_PROFILE = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return generation
+            """, Long.class);
     private static final Logger cacheLogger = LoggerFactory.getLogger("CACHE");
 
     private final StringRedisTemplate redis;
     private final ObjectMapper objectMapper;
+    private final RedisMetrics redisMetrics;
+    private final CacheMeters profileMeters;
+    private final CacheMeters listMeters;
 
-    public UserCache(StringRedisTemplate redis, ObjectMapper objectMapper) {
+    public UserCache(StringRedisTemplate redis, ObjectMapper objectMapper, RedisMetrics redisMetrics) {
         this.redis = redis;
         this.objectMapper = objectMapper;
+        this.redisMetrics = redisMetrics;
+        this.profileMeters = redisMetrics.cache("user-profile");
+        this.listMeters = redisMetrics.cache("user-list");
     }
 
     public String getById(String userId) {
+        long started = System.nanoTime();
         try {
             String key = keyById(userId);
             String value = redis.opsForValue().get(key);
-            cacheLogger.info("CACHE_USER_GET key={} hit={}", key, value != null);
+            if (value == null) {
+                profileMeters.miss();
+            } else {
+                profileMeters.hit();
+            }
+            cacheLogger.debug("CACHE_USER_GET key={} hit={}", key, value != null);
             return value;
         } catch (RuntimeException ex) {
             logCacheFailure("getById", ex);
             return null;
+        } finally {
+            profileMeters.recordGet(started);
         }
     }
 
     public void putById(String userId, String json, Duration ttl) {
+        long started = System.nanoTime();
         try {
             String key = keyById(userId);
             redis.opsForValue().set(key, json, ttl);
-            cacheLogger.info("CACHE_USER_PUT key={} ttl={}", key, ttl);
+            cacheLogger.debug("CACHE_USER_PUT key={} ttl={}", key, ttl);
         } catch (RuntimeException ex) {
             logCacheFailure("putById", ex);
+        } finally {
+            profileMeters.recordPut(started);
         }
     }
 
     public void invalidateById(String userId) {
+        long started = System.nanoTime();
         try {
             String key = keyById(userId);
             redis.delete(key);
-            cacheLogger.info("CACHE_USER_EVICT key={}", key);
+            cacheLogger.debug("CACHE_USER_EVICT key={}", key);
         } catch (RuntimeException ex) {
             logCacheFailure("invalidateById", ex);
+        } finally {
+            profileMeters.recordEvict(started);
         }
     }
 
@@ -62,7 +112,7 @@ public class UserCache implements UserListCachePort {
         try {
             String key = keyByEmail(email);
             redis.delete(key);
-            cacheLogger.info("CACHE_USER_EVICT key={}", key);
+            cacheLogger.debug("CACHE_USER_EVICT key={}", key);
         } catch (RuntimeException ex) {
             logCacheFailure("invalidateByEmail", ex);
         }
@@ -72,61 +122,184 @@ public class UserCache implements UserListCachePort {
         try {
             String key = keyByEmail(email);
             redis.opsForValue().set(key, json, ttl);
-            cacheLogger.info("CACHE_USER_PUT key={} ttl={}", key, ttl);
+            cacheLogger.debug("CACHE_USER_PUT key={} ttl={}", key, ttl);
         } catch (RuntimeException ex) {
             logCacheFailure("putByEmail", ex);
         }
     }
 
     @Override
-    public Optional<PagedResponse<UserResponse>> getList(String listKey) {
+    public Optional<UserResponse> getProfile(UUID userId) {
+        String json = getById(userId.toString());
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, UserResponse.class));
+        } catch (JsonProcessingException ex) {
+            profileMeters.stale();
+            invalidateById(userId.toString());
+            cacheLogger.debug("CACHE_USER_STALE key={} action=deleted", keyById(userId.toString()));
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long profileGeneration(UUID userId) {
+        try {
+            String value = redis.opsForValue().get(profileGenerationKey(userId.toString()));
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (RuntimeException ex) {
+            logCacheFailure("profileGeneration", ex);
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    @Override
+    public void putProfile(UserResponse profile, Duration ttl, long generation) {
+        if (generation == UNKNOWN_GENERATION) {
+            return;
+        }
+        long started = System.nanoTime();
+        String key = keyById(profile.id().toString());
+        try {
+            Long stored = redis.execute(
+                    PUT_IF_GENERATION,
+                    List.of(key, profileGenerationKey(profile.id().toString())),
+                    Long.toString(generation),
+                    objectMapper.writeValueAsString(profile),
+                    Long.toString(ttl.toMillis())
+            );
+            if (stored != null && stored == 1) {
+                cacheLogger.debug("CACHE_USER_PUT key={} ttl={}", key, ttl);
+            } else {
+                cacheLogger.debug("CACHE_USER_PUT_SKIPPED key={} generation={} reason=evicted", key, generation);
+            }
+        } catch (JsonProcessingException ex) {
+            cacheLogger.warn("CACHE_USER_SERIALIZE_FAILED userId={} message={}", profile.id(), ex.getMessage());
+        } catch (RuntimeException ex) {
+            logCacheFailure("putProfile", ex);
+        } finally {
+            profileMeters.recordPut(started);
+        }
+    }
+
+    @Override
+    public void evictProfile(UUID userId) {
+        long started = System.nanoTime();
+        String key = keyById(userId.toString());
+        try {
+            // Bumps the generation too, so a load that started before this cannot store its result.
+            redis.execute(
+                    EVICT_PROFILE,
+                    List.of(key, profileGenerationKey(userId.toString())),
+                    Long.toString(PROFILE_GENERATION_TTL.toMillis())
+            );
+            cacheLogger.debug("CACHE_USER_EVICT key={}", key);
+        } catch (RuntimeException ex) {
+            logCacheFailure("evictProfile", ex);
+        } finally {
+            profileMeters.recordEvict(started);
+        }
+    }
+
+    @Override
+    public Optional<CachedUserList> getList(String listKey) {
+        long started = System.nanoTime();
         try {
             String json = redis.opsForValue().get(listKey);
             if (json == null) {
-                cacheLogger.info("CACHE_USER_LIST_GET key={} hit=false", listKey);
+                listMeters.miss();
+                cacheLogger.debug("CACHE_USER_LIST_GET key={} hit=false", listKey);
                 return Optional.empty();
             }
-            PagedResponse<UserResponse> value = objectMapper.readValue(
-                    json,
-                    objectMapper.getTypeFactory().constructParametricType(PagedResponse.class, UserResponse.class)
-            );
-            cacheLogger.info("CACHE_USER_LIST_GET key={} hit=true", listKey);
+            CachedUserList value = objectMapper.readValue(json, CachedUserList.class);
+            if (value.page() == null) {
+                return evictStaleList(listKey);
+            }
+            listMeters.hit();
+            cacheLogger.debug("CACHE_USER_LIST_GET key={} hit=true", listKey);
             return Optional.of(value);
         } catch (JsonProcessingException ex) {
-            redis.delete(listKey);
-            cacheLogger.info("CACHE_USER_LIST_STALE key={} action=deleted", listKey);
-            return Optional.empty();
+            return evictStaleList(listKey);
         } catch (RuntimeException ex) {
             logCacheFailure("getList", ex);
             return Optional.empty();
+        } finally {
+            listMeters.recordGet(started);
         }
     }
 
     @Override
-    public void putList(String listKey, PagedResponse<UserResponse> response, Duration ttl) {
+    public long listGeneration() {
         try {
-            String json = objectMapper.writeValueAsString(response);
-            redis.opsForValue().set(listKey, json, ttl);
-            cacheLogger.info("CACHE_USER_LIST_PUT key={} ttl={}", listKey, ttl);
+            String value = redis.opsForValue().get(LIST_GENERATION_KEY);
+            return value == null ? 0 : Long.parseLong(value);
+        } catch (RuntimeException ex) {
+            logCacheFailure("listGeneration", ex);
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    @Override
+    public void putList(
+            String listKey,
+            PagedResponse<UserResponse> response,
+            Duration ttl,
+            long recomputeMillis,
+            long generation
+    ) {
+        if (generation == UNKNOWN_GENERATION) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            CachedUserList value = new CachedUserList(response, recomputeMillis, System.currentTimeMillis() + ttl.toMillis());
+            Long stored = redis.execute(
+                    PUT_IF_GENERATION,
+                    List.of(listKey, LIST_GENERATION_KEY),
+                    Long.toString(generation),
+                    objectMapper.writeValueAsString(value),
+                    Long.toString(ttl.toMillis())
+            );
+            if (stored != null && stored == 1) {
+                cacheLogger.debug("CACHE_USER_LIST_PUT key={} ttl={} recomputeMs={}", listKey, ttl, recomputeMillis);
+            } else {
+                cacheLogger.debug("CACHE_USER_LIST_PUT_SKIPPED key={} generation={} reason=invalidated", listKey, generation);
+            }
         } catch (JsonProcessingException ex) {
             cacheLogger.warn("CACHE_USER_LIST_SERIALIZE_FAILED key={} message={}", listKey, ex.getMessage());
         } catch (RuntimeException ex) {
             logCacheFailure("putList", ex);
+        } finally {
+            listMeters.recordPut(started);
         }
     }
 
+    private Optional<CachedUserList> evictStaleList(String listKey) {
+        listMeters.stale();
+        redis.delete(listKey);
+        cacheLogger.debug("CACHE_USER_LIST_STALE key={} action=deleted", listKey);
+        return Optional.empty();
+    }
+
     @Override
     public void invalidateLists() {
         // For testing: clear all cached list pages.
         // Note: KEYS is not recommended for large datasets in production.
+        long started = System.nanoTime();
         try {
+            // Bump first: a page loaded before this point can no longer be stored.
+            redis.opsForValue().increment(LIST_GENERATION_KEY);
             java.util.Set<String> keys = redis.keys(PREFIX + ":list:*");
             if (keys != null && !keys.isEmpty()) {
                 redis.delete(keys);
             }
-            cacheLogger.info("CACHE_USER_LIST_EVICT_ALL count={}", keys == null ? 0 : keys.size());
+            cacheLogger.debug("CACHE_USER_LIST_EVICT_ALL count={}", keys == null ? 0 : keys.size());
         } catch (RuntimeException ex) {
             logCacheFailure("invalidateLists", ex);
+        } finally {
+            listMeters.recordEvict(started);
         }
     }
 
@@ -134,11 +307,16 @@ public class UserCache implements UserListCachePort {
         return PREFIX + ":by-id:" + userId;
     }
 
+    private String profileGenerationKey(String userId) {
+        return PREFIX + ":by-id-generation:" + userId;
+    }
+
     private String keyByEmail(String email) {
         return PREFIX + ":by-email:" + email.toLowerCase();
     }
 
     private void logCacheFailure(String operation, RuntimeException ex) {
+        redisMetrics.fallback("user-cache", operation);
         cacheLogger.warn("CACHE_DISABLED {} (redis unavailable: {})", operation, ex.getMessage());
     }
 
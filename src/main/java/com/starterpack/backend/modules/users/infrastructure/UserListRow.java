@@ -0,0 +1,39 @@
+package com.starterpack.backend.modules.users.infrastructure;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.users.api.dto.RoleSummary;
+import com.starterpack.backend.modules.users.api.dto.UserResponse;
+import com.starterpack.backend.modules.users.domain.UserStatus;
+
+public record UserListRow(
+        UUID id,
+        String name,
+        String email,
+        boolean emailVerified,
+        String phone,
+        boolean phoneVerified,
+        String image,
+        UserStatus status,
+        Integer roleId,
+        String roleName,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+    public UserResponse toResponse() {
+        return new UserResponse(
+                id,
+                name,
+                email,
+                emailVerified,
+                phone,
+                phoneVerified,
+                image,
+                status,
+                roleId == null ? null : new RoleSummary(roleId, roleName),
+                createdAt,
+                updatedAt
+        );
+    }
+}
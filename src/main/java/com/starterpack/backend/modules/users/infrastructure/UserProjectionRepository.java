@@ -0,0 +1,17 @@
+package com.starterpack.backend.modules.users.infrastructure;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.users.domain.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface UserProjectionRepository {
+    Page<UserListRow> findListRows(Specification<User> specification, Pageable pageable);
+
+    /** Rows for the given ids in one query, in no particular order. */
+    List<UserListRow> findListRowsByIds(Collection<UUID> ids);
+}
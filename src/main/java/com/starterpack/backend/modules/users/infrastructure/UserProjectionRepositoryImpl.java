@@ -0,0 +1,73 @@
+package com.starterpack.backend.modules.users.infrastructure;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.common.persistence.SpecificationProjections;
+import com.starterpack.backend.modules.users.domain.Role;
+import com.starterpack.backend.modules.users.domain.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+class UserProjectionRepositoryImpl implements UserProjectionRepository {
+    private final EntityManager entityManager;
+
+    UserProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<UserListRow> findListRows(Specification<User> specification, Pageable pageable) {
+        return SpecificationProjections.page(
+                entityManager,
+                User.class,
+                UserListRow.class,
+                specification,
+                pageable,
+                UserProjectionRepositoryImpl::listColumns
+        );
+    }
+
+    @Override
+    public List<UserListRow> findListRowsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserListRow> query = cb.createQuery(UserListRow.class);
+        Root<User> root = query.from(User.class);
+        query.select(cb.construct(UserListRow.class, listColumns(root).toArray(Selection[]::new)));
+        query.where(root.get("id").in(ids));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    private static List<Selection<?>> listColumns(Root<User> root) {
+        Join<User, Role> role = root.join("role", JoinType.LEFT);
+        return List.of(
+                root.get("id"),
+                root.get("name"),
+                root.get("email"),
+                root.get("emailVerified"),
+                root.get("phone"),
+                root.get("phoneVerified"),
+                root.get("image"),
+                root.get("status"),
+                role.get("id"),
+                role.get("name"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        );
+    }
+}
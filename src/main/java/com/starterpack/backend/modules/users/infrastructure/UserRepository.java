@@ -11,10 +11,11 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User>, UserProjectionRepository {
     @EntityGraph(attributePaths = "role")
     Optional<User> findById(UUID id);
 
@@ -33,4 +34,39 @@ public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificat
 
     @Query("select u.id from User u where u.role.id = :roleId")
     List<UUID> findIdsByRoleId(Integer roleId);
+
+    @Query(value = "SELECT CAST(GREATEST(reltuples, 0) AS bigint) FROM pg_class WHERE oid = 'users'::regclass", nativeQuery = true)
+    long estimateCount();
+
+    /** Ranked ids only; load the page's rows with {@link #findListRowsByIds}. */
+    @Query(value = """
+            SELECT u.id
+            FROM users u
+            WHERE (lower(u.name) LIKE :pattern
+                   OR lower(u.email) LIKE :pattern
+                   OR lower(u.name) % :q
+                   OR lower(u.email) % :q)
+              AND (CAST(:roleId AS integer) IS NULL OR u.role_id = :roleId)
+              AND (CAST(:emailVerified AS boolean) IS NULL OR u.email_verified = :emailVerified)
+            ORDER BY greatest(similarity(lower(u.name), :q), similarity(lower(u.email), :q)) DESC,
+                     u.created_at DESC
+            """,
+            countQuery = """
+            SELECT count(*)
+            FROM users u
+            WHERE (lower(u.name) LIKE :pattern
+                   OR lower(u.email) LIKE :pattern
+                   OR lower(u.name) % :q
+                   OR lower(u.email) % :q)
+              AND (CAST(:roleId AS integer) IS NULL OR u.role_id = :roleId)
+              AND (CAST(:emailVerified AS boolean) IS NULL OR u.email_verified = :emailVerified)
+            """,
+            nativeQuery = true)
+    Page<UUID> searchRankedIds(
+            @Param("q") String q,
+            @Param("pattern") String pattern,
+            @Param("roleId") Integer roleId,
+            @Param("emailVerified") Boolean emailVerified,
+            Pageable pageable
+    );
 }
@@ -1,13 +1,18 @@
 package com.starterpack.backend.modules.users.infrastructure;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import com.starterpack.backend.modules.users.domain.VerificationChannel;
 import com.starterpack.backend.modules.users.domain.VerificationPurpose;
 import com.starterpack.backend.modules.users.domain.Verification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -20,5 +25,28 @@ public interface VerificationRepository extends JpaRepository<Verification, UUID
             OffsetDateTime now
     );
 
+    List<Verification> findByConsumedAtIsNullAndExpiresAtAfterAndIdGreaterThanOrderByIdAsc(
+            OffsetDateTime now,
+            UUID afterId,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE Verification v
+            SET v.attempts = :attempts
+            WHERE v.identifier = :identifier
+              AND v.purpose = :purpose
+              AND v.channel = :channel
+              AND v.consumedAt IS NULL
+              AND v.attempts < :attempts
+            """)
+    int raiseAttempts(
+            @Param("identifier") String identifier,
+            @Param("purpose") VerificationPurpose purpose,
+            @Param("channel") VerificationChannel channel,
+            @Param("attempts") int attempts
+    );
+
     void deleteByIdentifier(String identifier);
 }
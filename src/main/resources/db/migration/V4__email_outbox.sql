@@ -0,0 +1,32 @@
+-- Transactional outbox for outgoing email.
+-- Rows are written in the caller's transaction and delivered by a background
+-- dispatcher after commit, so SMTP latency never holds a DB connection.
+
+CREATE TYPE email_outbox_status AS ENUM (
+    'PENDING',
+    'SENT',
+    'FAILED'
+);
+
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    from_address TEXT NOT NULL,
+    recipient TEXT NOT NULL,
+    subject TEXT NOT NULL,
+    text_body TEXT,
+    status email_outbox_status NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    max_attempts INT NOT NULL,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error TEXT,
+    sent_at TIMESTAMPTZ
+);
+
+CREATE INDEX idx_email_outbox_pending_due
+    ON email_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_email_outbox_sent_at
+    ON email_outbox (sent_at)
+    WHERE status = 'SENT';
@@ -0,0 +1,4 @@
+-- HTML alternative for multipart (text + HTML) outbox messages.
+
+ALTER TABLE email_outbox
+    ADD COLUMN html_body TEXT;
@@ -0,0 +1,11 @@
+-- Trigram indexes for admin user search (GET /api/admin/users?q=...).
+-- Serve both `lower(col) LIKE '%q%'` and the similarity operators used by ranked search.
+-- Built CONCURRENTLY so large users tables stay writable; see the .conf next to this file.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_name_trgm_idx
+    ON users USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_email_trgm_idx
+    ON users USING gin (lower(email) gin_trgm_ops);
@@ -0,0 +1,22 @@
+-- Keyset pagination for GET /api/admin/users/cursor orders by (sort column, id).
+-- Composite indexes replace the single-column ones they extend, so every sortable
+-- column and the role/email-verified filter can seek straight to the cursor.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_created_at_id_desc_idx
+    ON users (created_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_updated_at_id_desc_idx
+    ON users (updated_at DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_name_id_idx
+    ON users (name, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_email_id_idx
+    ON users (email, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_role_email_verified_created_at_id_desc_idx
+    ON users (role_id, email_verified, created_at DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS users_created_at_desc_idx;
+DROP INDEX CONCURRENTLY IF EXISTS users_updated_at_desc_idx;
+DROP INDEX CONCURRENTLY IF EXISTS users_role_email_verified_created_at_desc_idx;
@@ -0,0 +1,18 @@
+-- Resumable (chunked) uploads. One row per in-progress upload; the bytes live
+-- in a staging file until the upload is completed and moved into storage.
+
+CREATE TABLE upload_sessions (
+    id UUID PRIMARY KEY,
+    owner_id UUID REFERENCES users(id) ON DELETE CASCADE,
+    original_filename TEXT NOT NULL,
+    content_type TEXT NOT NULL,
+    folder TEXT,
+    size_bytes BIGINT NOT NULL CHECK (size_bytes > 0),
+    received_bytes BIGINT NOT NULL DEFAULT 0 CHECK (received_bytes >= 0 AND received_bytes <= size_bytes),
+    sha256 TEXT,
+    staging_path TEXT NOT NULL UNIQUE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX upload_sessions_expires_at_idx ON upload_sessions (expires_at);
@@ -0,0 +1,17 @@
+-- Outbox rows keep the template and its values instead of rendered bodies.
+-- Secret values (verification tokens and links) are stored sealed with an
+-- application key and rendered only at send time; both columns are cleared
+-- once the row is sent or abandoned.
+
+ALTER TABLE email_outbox
+    ADD COLUMN template_name TEXT,
+    ADD COLUMN template_values JSONB,
+    ADD COLUMN sealed_values TEXT;
+
+-- Pending rows written before this migration still carry rendered bodies
+-- and are delivered from them; drop bodies left on finished rows.
+UPDATE email_outbox
+SET text_body = NULL,
+    html_body = NULL
+WHERE status <> 'PENDING'
+  AND (text_body IS NOT NULL OR html_body IS NOT NULL);
@@ -0,0 +1,83 @@
+package com.starterpack.backend.common.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        Set<Thread> callerThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch started = new CountDownLatch(callers);
+        CountDownLatch followersWaiting = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    callerThreads.add(Thread.currentThread());
+                    started.countDown();
+                    return singleFlight.execute("users:list:0", () -> {
+                        loads.incrementAndGet();
+                        await(followersWaiting);
+                        return "page-0";
+                    });
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            // The leader waits with a timeout on the latch; every other caller parks
+            // untimed on the shared future, so WAITING means it is inside execute.
+            awaitWaiting(callerThreads, callers - 1);
+            followersWaiting.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("page-0");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(singleFlight.inFlight()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLoadIsNotRemembered() {
+        assertThatThrownBy(() -> singleFlight.execute("k", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("k", () -> "ok")).isEqualTo("ok");
+    }
+
+    private static void awaitWaiting(Set<Thread> threads, int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().filter(thread -> thread.getState() == Thread.State.WAITING).count() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
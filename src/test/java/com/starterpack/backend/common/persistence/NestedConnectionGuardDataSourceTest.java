@@ -0,0 +1,154 @@
+package com.starterpack.backend.common.persistence;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class NestedConnectionGuardDataSourceTest {
+    private static final int POOL_SIZE = 4;
+    private static final int WORKERS = POOL_SIZE * 2;
+    private static final int ITERATIONS = 50;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BoundedPool pool = new BoundedPool(POOL_SIZE, 500);
+
+    @Test
+    void twicePoolSizeWorkersHoldingOneConnectionEachNeverStarve() throws Exception {
+        NestedConnectionGuardDataSource dataSource = guard(ConnectionGuardProperties.Mode.FAIL);
+
+        runWorkers(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                try (Connection connection = dataSource.getConnection()) {
+                    Thread.sleep(1);
+                }
+            }
+            return null;
+        });
+
+        assertThat(pool.timeouts).hasValue(0);
+        assertThat(nestedCount()).isZero();
+        assertThat(pool.available()).isEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void nestedAcquisitionAtTwicePoolSizeFailsFastInsteadOfStarving() throws Exception {
+        NestedConnectionGuardDataSource dataSource = guard(ConnectionGuardProperties.Mode.FAIL);
+        AtomicInteger refused = new AtomicInteger();
+
+        runWorkers(() -> {
+            try (Connection outer = dataSource.getConnection()) {
+                Thread.sleep(5);
+                assertThatThrownBy(dataSource::getConnection)
+                        .isInstanceOf(SQLException.class)
+                        .isNotInstanceOf(SQLTransientConnectionException.class);
+                refused.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertThat(refused).hasValue(WORKERS);
+        assertThat(pool.timeouts).hasValue(0);
+        assertThat(nestedCount()).isEqualTo(WORKERS);
+        assertThat(pool.available()).isEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void warnModeCountsNestedAcquisitionAndForgetsReleasedConnections() throws Exception {
+        NestedConnectionGuardDataSource dataSource = guard(ConnectionGuardProperties.Mode.WARN);
+
+        Connection outer = dataSource.getConnection();
+        Connection inner = dataSource.getConnection();
+        inner.close();
+        inner.close();
+        outer.close();
+        try (Connection next = dataSource.getConnection()) {
+            assertThat(next.isWrapperFor(Connection.class)).isTrue();
+        }
+
+        assertThat(nestedCount()).isEqualTo(1);
+        assertThat(pool.available()).isEqualTo(POOL_SIZE);
+    }
+
+    private NestedConnectionGuardDataSource guard(ConnectionGuardProperties.Mode mode) {
+        return new NestedConnectionGuardDataSource(pool, mode, meterRegistry);
+    }
+
+    private double nestedCount() {
+        return meterRegistry.get("db.connections.nested").counter().count();
+    }
+
+    private static void runWorkers(java.util.concurrent.Callable<Void> work) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < WORKERS; i++) {
+                results.add(executor.submit(work));
+            }
+            for (Future<Void> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Stand-in for Hikari: a fixed number of slots and a bounded wait. */
+    private static final class BoundedPool extends AbstractDataSource {
+        private final Semaphore slots;
+        private final long timeoutMillis;
+        private final AtomicInteger timeouts = new AtomicInteger();
+
+        private BoundedPool(int size, long timeoutMillis) {
+            this.slots = new Semaphore(size);
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            try {
+                if (!slots.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    timeouts.incrementAndGet();
+                    throw new SQLTransientConnectionException("pool exhausted");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            }
+            Connection connection = mock(Connection.class);
+            AtomicInteger closes = new AtomicInteger();
+            doAnswer(invocation -> {
+                if (closes.getAndIncrement() == 0) {
+                    slots.release();
+                }
+                return null;
+            }).when(connection).close();
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        private int available() {
+            return slots.availablePermits();
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.starterpack.backend.config;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import com.starterpack.backend.modules.auth.application.model.CachedAuthContext;
 import com.starterpack.backend.modules.auth.infrastructure.AuthSessionCache;
+import com.starterpack.backend.modules.users.application.PermissionBitIndex;
 import com.starterpack.backend.modules.users.domain.Permission;
+import com.starterpack.backend.modules.users.domain.PermissionBits;
 import com.starterpack.backend.modules.users.domain.Role;
 import com.starterpack.backend.modules.users.domain.Session;
 import com.starterpack.backend.modules.users.domain.User;
@@ -34,6 +37,8 @@ class SessionAuthenticationFilterTest {
     @Mock
     private AuthSessionCache authSessionCache;
     @Mock
+    private PermissionBitIndex permissionBitIndex;
+    @Mock
     private FilterChain filterChain;
 
     @AfterEach
@@ -44,7 +49,7 @@ class SessionAuthenticationFilterTest {
     @Test
     void authenticatesFromRedisCacheWithoutDatabaseLookup() throws Exception {
         AuthProperties authProperties = new AuthProperties();
-        SessionAuthenticationFilter filter = new SessionAuthenticationFilter(sessionRepository, authProperties, authSessionCache);
+        SessionAuthenticationFilter filter = new SessionAuthenticationFilter(sessionRepository, authProperties, authSessionCache, permissionBitIndex);
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new jakarta.servlet.http.Cookie("sid", "token-1"));
         MockHttpServletResponse response = new MockHttpServletResponse();
@@ -52,19 +57,28 @@ class SessionAuthenticationFilterTest {
         CachedAuthContext cached = new CachedAuthContext(
                 UUID.randomUUID(),
                 UUID.randomUUID(),
+                "admin@example.com",
                 "token-1",
                 OffsetDateTime.now().plusMinutes(10),
                 "rid-1",
                 OffsetDateTime.now().plusDays(1),
                 "ADMIN",
-                Set.of("user:read")
+                PermissionBits.of(List.of(2)).toWords()
         );
         when(authSessionCache.findBySessionToken("token-1")).thenReturn(java.util.Optional.of(cached));
+        when(permissionBitIndex.bitOf("user:read")).thenReturn(2);
+        when(permissionBitIndex.bitOf("user:delete")).thenReturn(3);
+        when(permissionBitIndex.names(any())).thenReturn(List.of("user:read"));
 
         filter.doFilterInternal(request, response, filterChain);
 
-        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
-        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isInstanceOf(PermissionAuthenticationToken.class);
+        PermissionAuthenticationToken authentication =
+                (PermissionAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.hasAuthority("user:read")).isTrue();
+        assertThat(authentication.hasAuthority("user:delete")).isFalse();
+        assertThat(authentication.hasAuthority("ROLE_ADMIN")).isTrue();
+        assertThat(authentication.getAuthorities())
                 .extracting("authority")
                 .contains("ROLE_ADMIN", "user:read");
         verify(sessionRepository, never()).findByTokenAndExpiresAtAfter(any(), any());
@@ -73,12 +87,13 @@ class SessionAuthenticationFilterTest {
     @Test
     void fallsBackToDatabaseAndRepopulatesCacheOnRedisMiss() throws Exception {
         AuthProperties authProperties = new AuthProperties();
-        SessionAuthenticationFilter filter = new SessionAuthenticationFilter(sessionRepository, authProperties, authSessionCache);
+        SessionAuthenticationFilter filter = new SessionAuthenticationFilter(sessionRepository, authProperties, authSessionCache, permissionBitIndex);
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setCookies(new jakarta.servlet.http.Cookie("sid", "token-2"));
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         Permission permission = new Permission();
+        permission.setId(7);
         permission.setName("upload:read");
         Role role = new Role();
         role.setName("USER");
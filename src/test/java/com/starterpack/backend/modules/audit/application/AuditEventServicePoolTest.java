@@ -0,0 +1,284 @@
+package com.starterpack.backend.modules.audit.application;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.starterpack.backend.common.persistence.ConnectionGuardProperties;
+import com.starterpack.backend.common.persistence.NestedConnectionGuardDataSource;
+import com.starterpack.backend.modules.audit.domain.AuditLog;
+import com.starterpack.backend.modules.audit.infrastructure.AuditLogRepository;
+import com.starterpack.backend.modules.users.infrastructure.UserRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Real Hikari pool of {@value #POOL_SIZE} behind the connection guard in FAIL
+ * mode, driven by twice as many concurrent @Transactional callers that each
+ * record audit events. Any nested acquisition or pool timeout fails a worker.
+ */
+class AuditEventServicePoolTest {
+    private static final int POOL_SIZE = 4;
+    private static final int WORKERS = POOL_SIZE * 2;
+    private static final int ITERATIONS = 40;
+
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(PoolConfig.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void auditingCallersAtTwicePoolSizeNeverTimeOutOrNestConnections() throws Exception {
+        AccountFlow flow = context.getBean(AccountFlow.class);
+        AtomicInteger failures = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < WORKERS; i++) {
+                results.add(executor.submit(() -> {
+                    for (int n = 0; n < ITERATIONS; n++) {
+                        flow.register();
+                        try {
+                            flow.failedLogin();
+                        } catch (IllegalStateException expected) {
+                            // rolled back; the failure event is still audited
+                        } catch (RuntimeException ex) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expectedRows = WORKERS * ITERATIONS * 2;
+        AtomicInteger saved = context.getBean("savedRows", AtomicInteger.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (saved.get() < expectedRows && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        HikariDataSource pool = context.getBean(HikariDataSource.class);
+        assertThat(failures).hasValue(0);
+        assertThat(saved).hasValue(expectedRows);
+        assertThat(meterRegistry.get("db.connections.nested").counter().count()).isZero();
+        assertThat(meterRegistry.find("audit.write.failures").counter()).isNull();
+        assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    @Test
+    void fullWriterQueueDropsRowsWithoutBlockingOrNestingConnections() throws Exception {
+        AccountFlow flow = context.getBean(AccountFlow.class);
+        Semaphore writerGate = context.getBean(Semaphore.class);
+        AtomicInteger saved = context.getBean("savedRows", AtomicInteger.class);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        int events = AuditWriter.MAX_QUEUED_WRITES + AuditWriter.MAX_BATCH_SIZE + 100;
+
+        // The writer blocks inside its first insert while callers keep queueing.
+        writerGate.drainPermits();
+        long started = System.nanoTime();
+        try {
+            for (int n = 0; n < events; n++) {
+                flow.register();
+            }
+        } finally {
+            writerGate.release(Integer.MAX_VALUE);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        double dropped = meterRegistry.get("audit.write.overflow").counter().count();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (saved.get() + dropped < events && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(dropped).isGreaterThanOrEqualTo(100);
+        assertThat(saved.get() + (long) dropped).isEqualTo(events);
+        assertThat(elapsedMillis).isLessThan(5_000);
+        assertThat(meterRegistry.get("db.connections.nested").counter().count()).isZero();
+        assertThat(context.getBean(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class PoolConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AtomicInteger savedRows() {
+            return new AtomicInteger();
+        }
+
+        @Bean
+        Semaphore writerGate() {
+            return new Semaphore(Integer.MAX_VALUE);
+        }
+
+        @Bean(destroyMethod = "close")
+        HikariDataSource hikariDataSource() {
+            HikariConfig config = new HikariConfig();
+            config.setDataSource(new StubDataSource());
+            config.setMaximumPoolSize(POOL_SIZE);
+            config.setMinimumIdle(POOL_SIZE);
+            config.setConnectionTimeout(1000);
+            return new HikariDataSource(config);
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(HikariDataSource hikariDataSource, MeterRegistry meterRegistry) {
+            return new NestedConnectionGuardDataSource(
+                    hikariDataSource,
+                    ConnectionGuardProperties.Mode.FAIL,
+                    meterRegistry
+            );
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        AuditLogRepository auditLogRepository(DataSource dataSource, AtomicInteger savedRows, Semaphore writerGate) {
+            AuditLogRepository repository = mock(AuditLogRepository.class, withSettings().stubOnly());
+            when(repository.save(any(AuditLog.class))).thenAnswer(invocation -> {
+                writerGate.acquireUninterruptibly();
+                writerGate.release();
+                // Stands in for the JPA insert: uses the connection of the current transaction.
+                Connection connection = DataSourceUtils.getConnection(dataSource);
+                DataSourceUtils.releaseConnection(connection, dataSource);
+                savedRows.incrementAndGet();
+                return invocation.getArgument(0);
+            });
+            return repository;
+        }
+
+        @Bean
+        AuditWriter auditWriter(
+                AuditLogRepository auditLogRepository,
+                MeterRegistry meterRegistry,
+                PlatformTransactionManager transactionManager
+        ) {
+            return new AuditWriter(
+                    auditLogRepository,
+                    mock(EntityManager.class, withSettings().stubOnly()),
+                    meterRegistry,
+                    transactionManager
+            );
+        }
+
+        @Bean
+        AuditEventService auditEventService(AuditWriter auditWriter, MeterRegistry meterRegistry) {
+            return new AuditEventService(
+                    mock(UserRepository.class, withSettings().stubOnly()),
+                    auditWriter,
+                    meterRegistry
+            );
+        }
+
+        @Bean
+        AccountFlow accountFlow(DataSource dataSource, AuditEventService auditEventService) {
+            return new AccountFlow(dataSource, auditEventService);
+        }
+    }
+
+    static class AccountFlow {
+        private final DataSource dataSource;
+        private final AuditEventService auditEventService;
+
+        AccountFlow(DataSource dataSource, AuditEventService auditEventService) {
+            this.dataSource = dataSource;
+            this.auditEventService = auditEventService;
+        }
+
+        @Transactional
+        public void register() {
+            DataSourceUtils.getConnection(dataSource);
+            auditEventService.record(AuditEventService.AuditEvent.success("auth.register", "user", "1", Map.of()));
+        }
+
+        @Transactional
+        public void failedLogin() {
+            DataSourceUtils.getConnection(dataSource);
+            auditEventService.record(AuditEventService.AuditEvent.failure(
+                    "auth.login.failure",
+                    "auth",
+                    null,
+                    "UNAUTHORIZED",
+                    "attacker@example.com",
+                    "203.0.113.7",
+                    "test",
+                    Map.of()
+            ));
+            throw new IllegalStateException("invalid credentials");
+        }
+    }
+
+    private static final class StubDataSource extends AbstractDataSource {
+        @Override
+        public Connection getConnection() {
+            Connection connection = mock(Connection.class, withSettings().stubOnly());
+            try {
+                when(connection.isValid(anyInt())).thenReturn(true);
+            } catch (java.sql.SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return connection;
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.starterpack.backend.modules.auth.application;
+
+import java.util.List;
+
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort.AttemptCount;
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import com.starterpack.backend.modules.users.infrastructure.VerificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerificationAttemptSyncJobTest {
+    private static final AttemptCount FIRST =
+            new AttemptCount("a@example.com", VerificationPurpose.PASSWORD_RESET, VerificationChannel.EMAIL, 3);
+    private static final AttemptCount SECOND =
+            new AttemptCount("b@example.com", VerificationPurpose.EMAIL_VERIFICATION, VerificationChannel.EMAIL, 5);
+
+    @Mock
+    private VerificationAttemptCounterPort counter;
+    @Mock
+    private VerificationRepository verificationRepository;
+
+    private VerificationAttemptSyncJob job;
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.getVerification().setAttemptsSyncBatchSize(2);
+        job = new VerificationAttemptSyncJob(counter, new VerificationAttemptSyncExecutor(verificationRepository), authProperties);
+    }
+
+    @Test
+    void writesBackEachBatchBeforeAcknowledgingIt() {
+        List<AttemptCount> fullBatch = List.of(FIRST, SECOND);
+        List<AttemptCount> lastBatch = List.of(FIRST);
+        when(counter.dirty(2)).thenReturn(fullBatch, lastBatch);
+
+        job.sync();
+
+        InOrder order = inOrder(verificationRepository, counter);
+        order.verify(verificationRepository).raiseAttempts("a@example.com", VerificationPurpose.PASSWORD_RESET, VerificationChannel.EMAIL, 3);
+        order.verify(verificationRepository).raiseAttempts("b@example.com", VerificationPurpose.EMAIL_VERIFICATION, VerificationChannel.EMAIL, 5);
+        order.verify(counter).acknowledge(fullBatch);
+        order.verify(verificationRepository).raiseAttempts("a@example.com", VerificationPurpose.PASSWORD_RESET, VerificationChannel.EMAIL, 3);
+        order.verify(counter).acknowledge(lastBatch);
+        verify(counter, times(2)).dirty(2);
+    }
+
+    @Test
+    void failedWriteBackLeavesCountersDirty() {
+        when(counter.dirty(2)).thenReturn(List.of(FIRST, SECOND));
+        when(verificationRepository.raiseAttempts(any(), any(), any(), anyInt()))
+                .thenThrow(new QueryTimeoutException("statement timeout"));
+
+        job.sync();
+
+        verify(counter, never()).acknowledge(any());
+        verify(counter, times(1)).dirty(2);
+    }
+
+    @Test
+    void stopsWhenNothingIsDirty() {
+        when(counter.dirty(2)).thenReturn(List.of());
+
+        job.sync();
+
+        verify(counter, never()).acknowledge(any());
+        verify(verificationRepository, never()).raiseAttempts(any(), any(), any(), anyInt());
+    }
+}
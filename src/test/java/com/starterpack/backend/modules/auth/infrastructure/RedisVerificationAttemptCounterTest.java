@@ -0,0 +1,106 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.port.VerificationAttemptCounterPort.AttemptCount;
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RedisVerificationAttemptCounterTest {
+    private static final VerificationPurpose PURPOSE = VerificationPurpose.PASSWORD_RESET;
+    private static final VerificationChannel CHANNEL = VerificationChannel.EMAIL;
+    private static final String COUNTER_KEY = "auth:va:PASSWORD_RESET:EMAIL:user@example.com";
+    private static final String DIRTY_KEY = "auth:va:dirty";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+    private RedisVerificationAttemptCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        counter = new RedisVerificationAttemptCounter(redis, new AuthProperties(), new RedisMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void recordFailureCountsWithinWindowAndMarksCounterDirty() {
+        assertThat(counter.recordFailure("user@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15))).isEqualTo(1);
+        Long ttl = redis.getExpire(COUNTER_KEY);
+        assertThat(counter.recordFailure("user@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15))).isEqualTo(2);
+
+        assertThat(counter.attempts("user@example.com", PURPOSE, CHANNEL)).isEqualTo(2);
+        // The window starts at the first failure; later failures do not extend it.
+        assertThat(redis.getExpire(COUNTER_KEY)).isPositive().isLessThanOrEqualTo(ttl);
+        assertThat(redis.opsForSet().members(DIRTY_KEY)).containsExactly("PASSWORD_RESET:EMAIL:user@example.com");
+    }
+
+    @Test
+    void dirtyReturnsCurrentCountsAndForgetsExpiredCounters() {
+        counter.recordFailure("user@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+        counter.recordFailure("user@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+        counter.recordFailure("gone@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+        redis.delete("auth:va:PASSWORD_RESET:EMAIL:gone@example.com");
+
+        List<AttemptCount> dirty = counter.dirty(10);
+
+        assertThat(dirty).containsExactly(new AttemptCount("user@example.com", PURPOSE, CHANNEL, 2));
+        assertThat(redis.opsForSet().members(DIRTY_KEY)).containsExactly("PASSWORD_RESET:EMAIL:user@example.com");
+    }
+
+    @Test
+    void acknowledgeKeepsCountersThatChangedAfterTheyWereRead() {
+        counter.recordFailure("user@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+        counter.recordFailure("other@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+        List<AttemptCount> dirty = counter.dirty(10);
+        counter.recordFailure("other@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+
+        counter.acknowledge(dirty);
+
+        assertThat(redis.opsForSet().members(DIRTY_KEY)).containsExactly("PASSWORD_RESET:EMAIL:other@example.com");
+        assertThat(counter.dirty(10)).containsExactly(new AttemptCount("other@example.com", PURPOSE, CHANNEL, 2));
+    }
+
+    @Test
+    void resetClearsOnlyTheGivenIdentifiers() {
+        counter.recordFailure("user@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+        counter.recordFailure("other@example.com", PURPOSE, CHANNEL, Duration.ofMinutes(15));
+
+        counter.reset(List.of("user@example.com"), PURPOSE, CHANNEL);
+
+        assertThat(counter.attempts("user@example.com", PURPOSE, CHANNEL)).isZero();
+        assertThat(counter.attempts("other@example.com", PURPOSE, CHANNEL)).isEqualTo(1);
+        assertThat(counter.dirty(10)).containsExactly(new AttemptCount("other@example.com", PURPOSE, CHANNEL, 1));
+    }
+}
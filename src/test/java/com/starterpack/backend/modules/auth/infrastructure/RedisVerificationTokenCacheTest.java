@@ -0,0 +1,173 @@
+package com.starterpack.backend.modules.auth.infrastructure;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import com.starterpack.backend.config.AuthProperties;
+import com.starterpack.backend.modules.auth.application.VerificationTokenCacheWarmer;
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort.Lookup;
+import com.starterpack.backend.modules.auth.application.port.VerificationTokenCachePort.TokenEntry;
+import com.starterpack.backend.modules.users.domain.Verification;
+import com.starterpack.backend.modules.users.domain.VerificationChannel;
+import com.starterpack.backend.modules.users.domain.VerificationPurpose;
+import com.starterpack.backend.modules.users.infrastructure.VerificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two cache instances over one Redis stand in for two app nodes. Node B's
+ * token writes fail while node A is warming the mirror.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisVerificationTokenCacheTest {
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+    private RedisVerificationTokenCache nodeA;
+    private RedisVerificationTokenCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        nodeA = cache(redis);
+        nodeB = cache(failingWrites(redis));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void writeFailureOnAnotherNodeDuringWarmKeepsMarkerUnset() {
+        TokenEntry mirrored = entry();
+        TokenEntry lost = entry();
+        Verification active = verification(mirrored);
+        VerificationRepository repository = mock(VerificationRepository.class);
+        when(repository.findByConsumedAtIsNullAndExpiresAtAfterAndIdGreaterThanOrderByIdAsc(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    // Node B issues a token while node A is scanning, and cannot mirror it.
+                    nodeB.put(lost);
+                    return List.of(active);
+                });
+
+        new VerificationTokenCacheWarmer(repository, nodeA).ensureWarm();
+
+        assertThat(nodeA.isReady()).isFalse();
+        assertThat(lookup(nodeA, lost).status()).isEqualTo(Lookup.Status.UNAVAILABLE);
+    }
+
+    @Test
+    void warmStartedAfterTheFailureSetsMarker() {
+        TokenEntry lost = entry();
+        nodeB.put(lost);
+
+        long epoch = nodeA.mirrorVersion();
+        nodeA.put(lost);
+
+        assertThat(nodeA.markReady(epoch)).isTrue();
+        assertThat(nodeA.isReady()).isTrue();
+        assertThat(lookup(nodeA, lost).status()).isEqualTo(Lookup.Status.HIT);
+        assertThat(lookup(nodeA, entry()).status()).isEqualTo(Lookup.Status.MISS);
+    }
+
+    @Test
+    void markerSetBeforeTheFailureIsDropped() {
+        assertThat(nodeA.markReady(nodeA.mirrorVersion())).isTrue();
+
+        nodeB.put(entry());
+
+        assertThat(nodeA.isReady()).isFalse();
+        assertThat(nodeB.isReady()).isFalse();
+    }
+
+    @Test
+    void nodeThatCannotReachRedisStopsTrustingMiss() {
+        assertThat(nodeA.markReady(nodeA.mirrorVersion())).isTrue();
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory("127.0.0.1", 1);
+        unreachable.afterPropertiesSet();
+        unreachable.start();
+        try {
+            RedisVerificationTokenCache isolated = cache(new StringRedisTemplate(unreachable));
+
+            isolated.put(entry());
+
+            assertThat(isolated.isReady()).isFalse();
+            assertThat(lookup(isolated, entry()).status()).isEqualTo(Lookup.Status.UNAVAILABLE);
+        } finally {
+            unreachable.destroy();
+        }
+    }
+
+    private static RedisVerificationTokenCache cache(StringRedisTemplate template) {
+        return new RedisVerificationTokenCache(template, new AuthProperties(), new RedisMetrics(new SimpleMeterRegistry()));
+    }
+
+    private static StringRedisTemplate failingWrites(StringRedisTemplate template) {
+        ValueOperations<String, String> values = spy(template.opsForValue());
+        doThrow(new RedisConnectionFailureException("write timed out"))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        StringRedisTemplate node = spy(template);
+        doReturn(values).when(node).opsForValue();
+        return node;
+    }
+
+    private static Lookup lookup(RedisVerificationTokenCache cache, TokenEntry entry) {
+        return cache.lookup(entry.identifier(), entry.purpose(), entry.channel(), entry.tokenHash());
+    }
+
+    private static TokenEntry entry() {
+        return new TokenEntry(
+                UUID.randomUUID(),
+                UUID.randomUUID().toString(),
+                VerificationPurpose.values()[0],
+                VerificationChannel.values()[0],
+                UUID.randomUUID().toString(),
+                OffsetDateTime.now().plusMinutes(15)
+        );
+    }
+
+    private static Verification verification(TokenEntry entry) {
+        Verification verification = new Verification();
+        verification.setId(entry.verificationId());
+        verification.setIdentifier(entry.identifier());
+        verification.setPurpose(entry.purpose());
+        verification.setChannel(entry.channel());
+        verification.setTokenHash(entry.tokenHash());
+        verification.setExpiresAt(entry.expiresAt());
+        return verification;
+    }
+}
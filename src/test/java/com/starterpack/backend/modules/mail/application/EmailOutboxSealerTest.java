@@ -0,0 +1,50 @@
+package com.starterpack.backend.modules.mail.application;
+
+import java.util.Base64;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterpack.backend.modules.mail.config.MailOutboxProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailOutboxSealerTest {
+    private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    @Test
+    void sealedValuesRoundTripWithoutPlaintextToken() {
+        EmailOutboxSealer sealer = sealer(KEY);
+
+        String sealed = sealer.seal(Map.of("token", "tok-1", "link", "http://localhost:3000/verify?token=tok-1"));
+
+        assertThat(sealed).doesNotContain("tok-1");
+        assertThat(sealer.unseal(sealed))
+                .containsEntry("token", "tok-1")
+                .containsEntry("link", "http://localhost:3000/verify?token=tok-1");
+    }
+
+    @Test
+    void valuesSealedUnderAnotherKeyOrAlteredAreRejected() {
+        String sealed = sealer(KEY).seal(Map.of("token", "tok-1"));
+        byte[] tampered = Base64.getDecoder().decode(sealed);
+        tampered[tampered.length - 1] ^= 1;
+
+        assertThatThrownBy(() -> sealer("").unseal(sealed)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> sealer(KEY).unseal(Base64.getEncoder().encodeToString(tampered)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsKeysThatAreNotAesSized() {
+        assertThatThrownBy(() -> sealer(Base64.getEncoder().encodeToString(new byte[20])))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static EmailOutboxSealer sealer(String key) {
+        MailOutboxProperties properties = new MailOutboxProperties();
+        properties.setSecretKey(key);
+        return new EmailOutboxSealer(properties, new ObjectMapper());
+    }
+}
@@ -0,0 +1,35 @@
+package com.starterpack.backend.modules.mail.application.template;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateEngineTest {
+    private final MailTemplateEngine engine = new MailTemplateEngine();
+
+    @Test
+    void rendersTextAndEscapedHtmlFromCompiledTemplates() {
+        RenderedEmail email = engine.render("verification", Map.of(
+                "name", "Ana <script>",
+                "purpose", "email",
+                "link", "http://localhost:3000/verify?token=a&b",
+                "identifier", "id-1",
+                "token", "tok-1"
+        ));
+
+        assertThat(email.subject()).isEqualTo("Verify your email");
+        assertThat(email.textBody()).startsWith("Hi Ana <script>,").contains("token=tok-1");
+        assertThat(email.htmlBody())
+                .contains("Hi Ana &lt;script&gt;,")
+                .contains("href=\"http://localhost:3000/verify?token=a&amp;b\"");
+    }
+
+    @Test
+    void rejectsUnclosedPlaceholders() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken.txt", "Hi {{name"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
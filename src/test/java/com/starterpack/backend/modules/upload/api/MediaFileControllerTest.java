@@ -0,0 +1,124 @@
+package com.starterpack.backend.modules.upload.api;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.starterpack.backend.config.UploadProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MediaFileControllerTest {
+    private static final String ETAG = "\"a-18f3c2d1e00\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @TempDir
+    private Path baseDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(baseDir.resolve("clip.bin"), "0123456789", StandardCharsets.US_ASCII);
+        UploadProperties uploadProperties = new UploadProperties();
+        uploadProperties.getLocal().setBaseDir(baseDir.toString());
+        mockMvc = MockMvcBuilders.standaloneSetup(new MediaFileController(uploadProperties)).build();
+    }
+
+    @Test
+    void singleRangeReturnsPartialContent() throws Exception {
+        mockMvc.perform(get("/files/clip.bin").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+    }
+
+    @Test
+    void rangePastEndOfFileIsNotSatisfiable() throws Exception {
+        mockMvc.perform(get("/files/clip.bin").header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void matchingEtagReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/files/clip.bin"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/files/clip.bin").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void requestedRangeIgnoresMissingMultipleAndMalformedHeaders() {
+        assertThat(MediaFileController.requestedRange(request(null, null), ETAG, LAST_MODIFIED)).isNull();
+        assertThat(MediaFileController.requestedRange(request("bytes=0-1,4-5", null), ETAG, LAST_MODIFIED)).isNull();
+        assertThat(MediaFileController.requestedRange(request("bytes=five-", null), ETAG, LAST_MODIFIED)).isNull();
+
+        HttpRange range = MediaFileController.requestedRange(request("bytes=2-5", null), ETAG, LAST_MODIFIED);
+        assertThat(range).isNotNull();
+        assertThat(range.getRangeStart(10)).isEqualTo(2);
+        assertThat(range.getRangeEnd(10)).isEqualTo(5);
+    }
+
+    @Test
+    void ifRangeWithStrongEtagHonoursRangeOnlyWhenItMatches() {
+        assertThat(MediaFileController.requestedRange(request("bytes=2-5", ETAG), ETAG, LAST_MODIFIED)).isNotNull();
+        assertThat(MediaFileController.requestedRange(request("bytes=2-5", "\"stale\""), ETAG, LAST_MODIFIED)).isNull();
+        assertThat(MediaFileController.requestedRange(request("bytes=2-5", "W/" + ETAG), ETAG, LAST_MODIFIED)).isNull();
+    }
+
+    @Test
+    void ifRangeWithDateComparesWholeSeconds() {
+        assertThat(MediaFileController.requestedRange(request("bytes=2-5", httpDate(LAST_MODIFIED)), ETAG, LAST_MODIFIED + 400))
+                .isNotNull();
+        assertThat(MediaFileController.requestedRange(request("bytes=2-5", httpDate(LAST_MODIFIED - 60_000)), ETAG, LAST_MODIFIED))
+                .isNull();
+        assertThat(MediaFileController.ifRangeMatches(request("bytes=2-5", "yesterday"), "yesterday", ETAG, LAST_MODIFIED))
+                .isFalse();
+    }
+
+    @Test
+    void rangeStartRejectsRangesOutsideTheFile() {
+        assertThat(MediaFileController.rangeStart(HttpRange.createByteRange(2, 5), 10)).isEqualTo(2);
+        assertThat(MediaFileController.rangeStart(HttpRange.createSuffixRange(3), 10)).isEqualTo(7);
+        assertThat(MediaFileController.rangeStart(HttpRange.createByteRange(10), 10)).isEqualTo(-1);
+        assertThat(MediaFileController.rangeStart(HttpRange.createSuffixRange(3), 0)).isEqualTo(-1);
+    }
+
+    private static MockHttpServletRequest request(String range, String ifRange) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/clip.bin");
+        if (range != null) {
+            request.addHeader(HttpHeaders.RANGE, range);
+        }
+        if (ifRange != null) {
+            request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+        }
+        return request;
+    }
+
+    private static String httpDate(long millis) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setDate(HttpHeaders.IF_RANGE, millis);
+        return headers.getFirst(HttpHeaders.IF_RANGE);
+    }
+}
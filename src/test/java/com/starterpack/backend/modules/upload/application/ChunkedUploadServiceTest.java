@@ -0,0 +1,268 @@
+package com.starterpack.backend.modules.upload.application;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import com.starterpack.backend.common.error.AppException;
+import com.starterpack.backend.config.UploadProperties;
+import com.starterpack.backend.modules.upload.api.dto.UploadSessionResponse;
+import com.starterpack.backend.modules.upload.domain.UploadSession;
+import com.starterpack.backend.modules.upload.infrastructure.LocalMediaStorage;
+import com.starterpack.backend.modules.upload.infrastructure.UploadSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+    private static final UUID OWNER_ID = UUID.randomUUID();
+
+    @Mock
+    private UploadSessionRepository uploadSessionRepository;
+    @Mock
+    private UploadService uploadService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private ChunkedUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        UploadProperties uploadProperties = new UploadProperties();
+        uploadProperties.getLocal().setBaseDir(tempDir.resolve("media").toString());
+        uploadProperties.getChunked().setStagingDir(tempDir.resolve("staging").toString());
+        service = new ChunkedUploadService(
+                uploadSessionRepository,
+                uploadService,
+                new LocalMediaStorage(uploadProperties),
+                uploadProperties,
+                transactionManager
+        );
+    }
+
+    @Test
+    void appendsChunkAndAdvancesOffset() throws Exception {
+        UploadSession session = stagedSession("head", 8);
+        when(uploadSessionRepository.advance(eq(session.getId()), eq(4L), eq(8L), any())).thenReturn(1);
+
+        UploadSessionResponse response = service.appendChunk(session.getId(), OWNER_ID, 4, sha256("tail"), body("tail"));
+
+        assertThat(response.offset()).isEqualTo(8);
+        assertThat(stagedContent(session)).isEqualTo("headtail");
+    }
+
+    @Test
+    void chunkWithWrongChecksumIsTruncatedToCommittedOffset() throws Exception {
+        UploadSession session = stagedSession("head", 8);
+
+        assertThatThrownBy(() -> service.appendChunk(session.getId(), OWNER_ID, 4, sha256("tall"), body("tail")))
+                .isInstanceOfSatisfying(AppException.class, ex -> assertThat(ex.getStatus()).isEqualTo(400));
+
+        assertThat(stagedContent(session)).isEqualTo("head");
+        verify(uploadSessionRepository, never()).advance(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void interruptedChunkIsTruncatedToCommittedOffset() throws Exception {
+        UploadSession session = stagedSession("head", 16);
+        InputStream dropped = new InputStream() {
+            private int sent;
+
+            @Override
+            public int read() throws IOException {
+                if (sent++ < 6) {
+                    return 'x';
+                }
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThatThrownBy(() -> service.appendChunk(session.getId(), OWNER_ID, 4, null, dropped))
+                .isInstanceOfSatisfying(AppException.class, ex -> {
+                    assertThat(ex.getStatus()).isEqualTo(400);
+                    assertThat(ex.getMessage()).contains("resend from offset 4");
+                });
+
+        assertThat(stagedContent(session)).isEqualTo("head");
+        verify(uploadSessionRepository, never()).advance(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void chunkPastDeclaredSizeIsTruncatedToCommittedOffset() throws Exception {
+        UploadSession session = stagedSession("head", 8);
+
+        assertThatThrownBy(() -> service.appendChunk(session.getId(), OWNER_ID, 4, null, body("tail-and-more")))
+                .isInstanceOfSatisfying(AppException.class, ex -> assertThat(ex.getStatus()).isEqualTo(400));
+
+        assertThat(stagedContent(session)).isEqualTo("head");
+    }
+
+    @Test
+    void appendThatReadItsOffsetBeforeAnotherCommittedIsRejected() throws Exception {
+        AtomicLong committed = new AtomicLong(4);
+        UploadSession session = sharedSession("head", 12, committed);
+        AtomicBoolean interleaved = new AtomicBoolean();
+        when(uploadSessionRepository.findById(session.getId())).thenAnswer(invocation -> {
+            UploadSession snapshot = copy(session, committed.get());
+            if (interleaved.compareAndSet(false, true)) {
+                // The second request has read offset 4; the first one runs to completion before it locks.
+                service.appendChunk(session.getId(), OWNER_ID, 4, null, body("tail"));
+            }
+            return Optional.of(snapshot);
+        });
+
+        assertThatThrownBy(() -> service.appendChunk(session.getId(), OWNER_ID, 4, null, body("TAIL")))
+                .isInstanceOfSatisfying(AppException.class, ex -> {
+                    assertThat(ex.getStatus()).isEqualTo(409);
+                    assertThat(ex.getMessage()).contains("offset is 8");
+                });
+
+        assertThat(committed.get()).isEqualTo(8);
+        assertThat(stagedContent(session)).isEqualTo("headtail");
+        verify(uploadSessionRepository, times(1)).advance(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void appendWhileAnotherIsWritingIsRejectedWithoutTouchingTheFile() throws Exception {
+        AtomicLong committed = new AtomicLong(4);
+        UploadSession session = sharedSession("head", 12, committed);
+        when(uploadSessionRepository.findById(session.getId()))
+                .thenAnswer(invocation -> Optional.of(copy(session, committed.get())));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InputStream slow = new InputStream() {
+            private final InputStream content = body("tail");
+
+            @Override
+            public int read() throws IOException {
+                return content.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int off, int len) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    throw new IOException(ex);
+                }
+                return content.read(buffer, off, len);
+            }
+        };
+
+        CompletableFuture<UploadSessionResponse> first =
+                CompletableFuture.supplyAsync(() -> service.appendChunk(session.getId(), OWNER_ID, 4, null, slow));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            assertThatThrownBy(() -> service.appendChunk(session.getId(), OWNER_ID, 4, null, body("TAIL")))
+                    .isInstanceOfSatisfying(AppException.class, ex -> assertThat(ex.getStatus()).isEqualTo(409));
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(first.get(5, TimeUnit.SECONDS).offset()).isEqualTo(8);
+        assertThat(stagedContent(session)).isEqualTo("headtail");
+    }
+
+    @Test
+    void completeMovesFileBackWhenMediaRowFails() throws Exception {
+        UploadSession session = stagedSession("payload", 7);
+        when(uploadService.saveMedia(any(), any(), any())).thenThrow(new IllegalStateException("insert failed"));
+
+        assertThatThrownBy(() -> service.complete(session.getId(), OWNER_ID))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(stagedContent(session)).isEqualTo("payload");
+        try (Stream<Path> stored = Files.walk(tempDir.resolve("media"))) {
+            assertThat(stored.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    private UploadSession stagedSession(String committed, long sizeBytes) throws IOException {
+        UploadSession session = newSession(committed, sizeBytes);
+        when(uploadSessionRepository.findById(session.getId())).thenReturn(Optional.of(session));
+        return session;
+    }
+
+    /** A session whose committed offset lives in {@code committed}, advanced the way the row update does. */
+    private UploadSession sharedSession(String content, long sizeBytes, AtomicLong committed) throws IOException {
+        UploadSession session = newSession(content, sizeBytes);
+        when(uploadSessionRepository.advance(eq(session.getId()), anyLong(), anyLong(), any())).thenAnswer(invocation ->
+                committed.compareAndSet((Long) invocation.getArgument(1), (Long) invocation.getArgument(2)) ? 1 : 0);
+        return session;
+    }
+
+    private UploadSession newSession(String committed, long sizeBytes) throws IOException {
+        Path staging = Files.createDirectories(tempDir.resolve("staging")).resolve(UUID.randomUUID() + ".part");
+        Files.writeString(staging, committed, StandardCharsets.US_ASCII);
+
+        UploadSession session = new UploadSession();
+        session.setId(UUID.randomUUID());
+        session.setOwnerId(OWNER_ID);
+        session.setOriginalFilename("clip.bin");
+        session.setContentType("application/octet-stream");
+        session.setSizeBytes(sizeBytes);
+        session.setReceivedBytes(committed.length());
+        session.setStagingPath(staging.toString());
+        session.setExpiresAt(OffsetDateTime.now().plusHours(1));
+        return session;
+    }
+
+    private static UploadSession copy(UploadSession session, long receivedBytes) {
+        UploadSession copy = new UploadSession();
+        copy.setId(session.getId());
+        copy.setOwnerId(session.getOwnerId());
+        copy.setOriginalFilename(session.getOriginalFilename());
+        copy.setContentType(session.getContentType());
+        copy.setSizeBytes(session.getSizeBytes());
+        copy.setReceivedBytes(receivedBytes);
+        copy.setStagingPath(session.getStagingPath());
+        copy.setExpiresAt(session.getExpiresAt());
+        return copy;
+    }
+
+    private static String stagedContent(UploadSession session) throws IOException {
+        return Files.readString(Path.of(session.getStagingPath()), StandardCharsets.US_ASCII);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String sha256(String content) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.US_ASCII));
+        return HexFormat.of().formatHex(hash);
+    }
+}
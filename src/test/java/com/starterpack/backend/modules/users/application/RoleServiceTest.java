@@ -0,0 +1,77 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.starterpack.backend.modules.audit.application.AuditEventService;
+import com.starterpack.backend.modules.auth.application.port.AuthSessionCachePort;
+import com.starterpack.backend.modules.users.domain.Permission;
+import com.starterpack.backend.modules.users.domain.Role;
+import com.starterpack.backend.modules.users.infrastructure.PermissionRepository;
+import com.starterpack.backend.modules.users.infrastructure.RoleRepository;
+import com.starterpack.backend.modules.users.infrastructure.SessionRepository;
+import com.starterpack.backend.modules.users.infrastructure.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private PermissionRepository permissionRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SessionRepository sessionRepository;
+    @Mock
+    private AuthSessionCachePort authSessionCache;
+    @Mock
+    private UserProfileService userProfileService;
+    @Mock
+    private AuditEventService auditEventService;
+
+    private RoleService roleService;
+
+    @BeforeEach
+    void setUp() {
+        roleService = new RoleService(
+                roleRepository,
+                permissionRepository,
+                userRepository,
+                sessionRepository,
+                authSessionCache,
+                userProfileService,
+                auditEventService
+        );
+    }
+
+    @Test
+    void updatingRolePermissionsEvictsProfilesOfItsUsers() {
+        Role role = new Role();
+        role.setId(3);
+        role.setName("EDITOR");
+        Permission permission = new Permission();
+        permission.setId(7);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(roleRepository.findById(3)).thenReturn(Optional.of(role));
+        when(permissionRepository.findAllById(Set.of(7))).thenReturn(List.of(permission));
+        when(userRepository.findIdsByRoleId(3)).thenReturn(List.of(first, second));
+
+        roleService.updateRolePermissions(3, Set.of(7));
+
+        verify(sessionRepository).deleteByUserRoleId(3);
+        verify(authSessionCache).evictAllUserSessions(first);
+        verify(userProfileService).evict(first);
+        verify(userProfileService).evict(second);
+    }
+}
@@ -0,0 +1,92 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.starterpack.backend.config.CacheProperties;
+import com.starterpack.backend.modules.users.application.port.UserListCachePort.CachedUserList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserListRefreshAheadTest {
+    private static final long NOW = 1_700_000_000_000L;
+    // ln(E_INVERSE) = -1, so the early distance equals the window exactly.
+    private static final double E_INVERSE = Math.exp(-1);
+
+    private CacheProperties cacheProperties;
+    private UserListRefreshAhead refreshAhead;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.getUsers().setListTtl(Duration.ofMinutes(5));
+        refreshAhead = new UserListRefreshAhead(cacheProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshAhead.destroy();
+    }
+
+    @Test
+    void fastPageStillRefreshesWithinTheTtlWindow() {
+        // 5ms to load, 10% of a 5 minute TTL: the window is 30s, not 5ms.
+        assertThat(refreshAhead.shouldRefresh(page(5, 29_000), NOW, E_INVERSE)).isTrue();
+        assertThat(refreshAhead.shouldRefresh(page(5, 31_000), NOW, E_INVERSE)).isFalse();
+    }
+
+    @Test
+    void slowPageUsesItsRecomputeTimeWhenThatIsLonger() {
+        cacheProperties.getUsers().setListRefreshBeta(2.0);
+
+        // 40s to load at beta 2 gives an 80s window, above the 30s floor.
+        assertThat(refreshAhead.shouldRefresh(page(40_000, 79_000), NOW, E_INVERSE)).isTrue();
+        assertThat(refreshAhead.shouldRefresh(page(40_000, 81_000), NOW, E_INVERSE)).isFalse();
+    }
+
+    @Test
+    void refreshGetsMoreLikelyCloserToExpiry() {
+        assertThat(refreshAhead.shouldRefresh(page(5, 120_000), NOW, 0.5)).isFalse();
+        assertThat(refreshAhead.shouldRefresh(page(5, 120_000), NOW, 0.01)).isTrue();
+        assertThat(refreshAhead.shouldRefresh(page(5, 0), NOW, 1.0)).isTrue();
+    }
+
+    @Test
+    void zeroBetaDisablesEarlyRefresh() {
+        cacheProperties.getUsers().setListRefreshBeta(0);
+
+        assertThat(refreshAhead.shouldRefresh(page(5, 1_000), NOW, 0.01)).isFalse();
+    }
+
+    @Test
+    void concurrentRefreshesOfOneKeyRunOnce() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable recompute = () -> {
+            runs.incrementAndGet();
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        refreshAhead.refresh("users:list:0", recompute);
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        refreshAhead.refresh("users:list:0", recompute);
+        release.countDown();
+
+        assertThat(runs).hasValue(1);
+    }
+
+    private static CachedUserList page(long recomputeMillis, long millisToExpiry) {
+        return new CachedUserList(null, recomputeMillis, NOW + millisToExpiry);
+    }
+}
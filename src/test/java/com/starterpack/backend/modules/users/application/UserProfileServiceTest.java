@@ -0,0 +1,153 @@
+package com.starterpack.backend.modules.users.application;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterpack.backend.common.concurrency.RedisSingleFlight;
+import com.starterpack.backend.common.concurrency.SingleFlightProperties;
+import com.starterpack.backend.common.error.AppException;
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import com.starterpack.backend.config.CacheProperties;
+import com.starterpack.backend.modules.users.api.dto.UserResponse;
+import com.starterpack.backend.modules.users.domain.User;
+import com.starterpack.backend.modules.users.infrastructure.UserCache;
+import com.starterpack.backend.modules.users.infrastructure.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Real profile cache over Redis; the repository stands in for the database so
+ * an update can be committed in the middle of a cache-filling load.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserProfileServiceTest {
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private UserCache cache;
+    private UserRepository userRepository;
+    private UserProfileService service;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        RedisMetrics redisMetrics = new RedisMetrics(new SimpleMeterRegistry());
+        cache = new UserCache(redis, new ObjectMapper().findAndRegisterModules(), redisMetrics);
+        userRepository = mock(UserRepository.class);
+        service = new UserProfileService(
+                userRepository,
+                cache,
+                new CacheProperties(),
+                new RedisSingleFlight(redis, new SingleFlightProperties(), redisMetrics),
+                mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void missLoadsOnceAndLaterReadsComeFromCache() {
+        User user = user("Jane");
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        assertThat(service.getProfile(user.getId(), this::notFound).name()).isEqualTo("Jane");
+        assertThat(service.getProfile(user.getId(), this::notFound).name()).isEqualTo("Jane");
+
+        verify(userRepository, times(1)).findById(user.getId());
+    }
+
+    @Test
+    void updateCommittedDuringLoadKeepsStaleProfileOutOfCache() {
+        User user = user("Jane");
+        when(userRepository.findById(user.getId())).thenAnswer(invocation -> {
+            // The loader has read the old row; a rename commits and evicts before it stores it.
+            User stale = user("Jane");
+            stale.setId(user.getId());
+            user.setName("Janet");
+            service.evict(user.getId());
+            return Optional.of(stale);
+        });
+
+        assertThat(service.getProfile(user.getId(), this::notFound).name()).isEqualTo("Jane");
+
+        assertThat(cache.getProfile(user.getId())).isEmpty();
+        doReturn(Optional.of(user)).when(userRepository).findById(user.getId());
+        assertThat(service.getProfile(user.getId(), this::notFound).name()).isEqualTo("Janet");
+    }
+
+    @Test
+    void evictAfterCommitDropsProfileCachedBeforeTheCommit() {
+        User user = user("Jane");
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.evict(user.getId());
+        // Another request refills the cache from the not-yet-committed state.
+        service.getProfile(user.getId(), this::notFound);
+        assertThat(cache.getProfile(user.getId())).isPresent();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.getProfile(user.getId())).isEmpty();
+    }
+
+    @Test
+    void missingUserIsNotCached() {
+        UUID id = UUID.randomUUID();
+        when(userRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getProfile(id, this::notFound))
+                .isInstanceOf(AppException.class);
+        assertThat(cache.getProfile(id)).isEmpty();
+    }
+
+    private AppException notFound() {
+        return AppException.notFound("User not found");
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setName(name);
+        user.setEmail(name.toLowerCase() + "@example.com");
+        user.setCreatedAt(OffsetDateTime.parse("2026-01-05T10:15:30Z"));
+        user.setUpdatedAt(OffsetDateTime.parse("2026-01-05T10:15:30Z"));
+        return user;
+    }
+}
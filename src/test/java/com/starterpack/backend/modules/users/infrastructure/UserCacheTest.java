@@ -0,0 +1,153 @@
+package com.starterpack.backend.modules.users.infrastructure;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starterpack.backend.common.metrics.RedisMetrics;
+import com.starterpack.backend.common.web.PageMeta;
+import com.starterpack.backend.common.web.PagedResponse;
+import com.starterpack.backend.modules.users.api.dto.RoleSummary;
+import com.starterpack.backend.modules.users.api.dto.UserResponse;
+import com.starterpack.backend.modules.users.application.port.UserListCachePort.CachedUserList;
+import com.starterpack.backend.modules.users.domain.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class UserCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String LIST_KEY = "users:list:page=1:size=20";
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redis;
+    private UserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redis = new StringRedisTemplate(connectionFactory);
+        redis.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        cache = new UserCache(redis, new ObjectMapper().findAndRegisterModules(), new RedisMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void profileWithCurrentGenerationIsStored() {
+        UserResponse profile = profile("Jane");
+
+        cache.putProfile(profile, TTL, cache.profileGeneration(profile.id()));
+
+        assertThat(cache.getProfile(profile.id())).contains(profile);
+        assertThat(redis.getExpire("users:by-id:" + profile.id())).isPositive();
+    }
+
+    @Test
+    void profileLoadedBeforeAnEvictIsNotStored() {
+        UserResponse stale = profile("Jane");
+        long generation = cache.profileGeneration(stale.id());
+
+        cache.evictProfile(stale.id());
+        cache.putProfile(stale, TTL, generation);
+
+        assertThat(cache.getProfile(stale.id())).isEmpty();
+        cache.putProfile(stale, TTL, cache.profileGeneration(stale.id()));
+        assertThat(cache.getProfile(stale.id())).contains(stale);
+    }
+
+    @Test
+    void evictRemovesProfileAndBumpsOnlyThatUsersGeneration() {
+        UserResponse evicted = profile("Jane");
+        UserResponse other = profile("John");
+        cache.putProfile(evicted, TTL, cache.profileGeneration(evicted.id()));
+        cache.putProfile(other, TTL, cache.profileGeneration(other.id()));
+
+        cache.evictProfile(evicted.id());
+
+        assertThat(cache.getProfile(evicted.id())).isEmpty();
+        assertThat(cache.profileGeneration(evicted.id())).isEqualTo(1);
+        assertThat(cache.getProfile(other.id())).contains(other);
+        assertThat(cache.profileGeneration(other.id())).isZero();
+        assertThat(redis.getExpire("users:by-id-generation:" + evicted.id())).isPositive();
+    }
+
+    @Test
+    void listPageWithCurrentGenerationIsStored() {
+        PagedResponse<UserResponse> page = page(profile("Jane"));
+
+        cache.putList(LIST_KEY, page, TTL, 12, cache.listGeneration());
+
+        CachedUserList cached = cache.getList(LIST_KEY).orElseThrow();
+        assertThat(cached.page()).isEqualTo(page);
+        assertThat(cached.recomputeMillis()).isEqualTo(12);
+        assertThat(redis.getExpire(LIST_KEY)).isPositive();
+    }
+
+    @Test
+    void listPageLoadedBeforeInvalidationIsNotStored() {
+        long generation = cache.listGeneration();
+        cache.putList(LIST_KEY, page(profile("Jane")), TTL, 12, generation);
+
+        cache.invalidateLists();
+        cache.putList(LIST_KEY, page(profile("Jane")), TTL, 12, generation);
+
+        assertThat(cache.getList(LIST_KEY)).isEmpty();
+        assertThat(cache.listGeneration()).isEqualTo(generation + 1);
+        // The generation key is outside users:list:*, so invalidation keeps it.
+        cache.invalidateLists();
+        assertThat(cache.listGeneration()).isEqualTo(generation + 2);
+    }
+
+    @Test
+    void listPageWithUnknownGenerationIsNotStored() {
+        cache.putList(LIST_KEY, page(profile("Jane")), TTL, 12, -1);
+
+        assertThat(cache.getList(LIST_KEY)).isEmpty();
+    }
+
+    private static PagedResponse<UserResponse> page(UserResponse... users) {
+        return new PagedResponse<>(List.of(users), new PageMeta(1, 20, users.length, 1, false, false));
+    }
+
+    private static UserResponse profile(String name) {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2026-01-05T10:15:30Z");
+        return new UserResponse(
+                UUID.randomUUID(),
+                name,
+                name.toLowerCase() + "@example.com",
+                true,
+                null,
+                false,
+                null,
+                UserStatus.ACTIVE,
+                new RoleSummary(2, "USER"),
+                createdAt,
+                createdAt
+        );
+    }
+}